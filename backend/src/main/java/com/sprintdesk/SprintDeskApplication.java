@@ -3,9 +3,11 @@ package com.sprintdesk;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ConfigurationPropertiesScan
+@EnableScheduling
 public class SprintDeskApplication {
   public static void main(String[] args) {
     SpringApplication.run(SprintDeskApplication.class, args);
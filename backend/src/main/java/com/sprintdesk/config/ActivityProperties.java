@@ -0,0 +1,52 @@
+package com.sprintdesk.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.activities")
+public class ActivityProperties {
+  private int partitionsAhead = 3;
+  private int retentionMonths = 12;
+  private boolean archiveEnabled = true;
+  private String archiveDir = "./archive/activities";
+  private int feedWindowDays = 35;
+
+  public int getPartitionsAhead() {
+    return partitionsAhead;
+  }
+
+  public void setPartitionsAhead(int partitionsAhead) {
+    this.partitionsAhead = partitionsAhead;
+  }
+
+  public int getRetentionMonths() {
+    return retentionMonths;
+  }
+
+  public void setRetentionMonths(int retentionMonths) {
+    this.retentionMonths = retentionMonths;
+  }
+
+  public boolean isArchiveEnabled() {
+    return archiveEnabled;
+  }
+
+  public void setArchiveEnabled(boolean archiveEnabled) {
+    this.archiveEnabled = archiveEnabled;
+  }
+
+  public String getArchiveDir() {
+    return archiveDir;
+  }
+
+  public void setArchiveDir(String archiveDir) {
+    this.archiveDir = archiveDir;
+  }
+
+  public int getFeedWindowDays() {
+    return feedWindowDays;
+  }
+
+  public void setFeedWindowDays(int feedWindowDays) {
+    this.feedWindowDays = feedWindowDays;
+  }
+}
@@ -0,0 +1,25 @@
+package com.sprintdesk.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.articles")
+public class ArticleProperties {
+  private int snapshotInterval = 20;
+  private int maxDiffEdits = 1000;
+
+  public int getSnapshotInterval() {
+    return snapshotInterval;
+  }
+
+  public void setSnapshotInterval(int snapshotInterval) {
+    this.snapshotInterval = snapshotInterval;
+  }
+
+  public int getMaxDiffEdits() {
+    return maxDiffEdits;
+  }
+
+  public void setMaxDiffEdits(int maxDiffEdits) {
+    this.maxDiffEdits = maxDiffEdits;
+  }
+}
@@ -0,0 +1,52 @@
+package com.sprintdesk.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("perf")
+public class HikariPoolSizer implements BeanPostProcessor, Ordered {
+  /**
+   * Sizes the connection pool as (cores * 2) + 1 unless app.datasource.pool-size pins it, and
+   * keeps it fixed so connections (and their prepared statements) are not churned by idle
+   * eviction. The formula is about the database's cores, but this process only sees its own
+   * host's, so app.datasource.db-cores should be set whenever Postgres runs elsewhere. Runs after
+   * property binding and before the pool opens its first connection, and ahead of the unordered
+   * QueryStatsDataSourceWrapper so it still sees the bare pool.
+   */
+  private static final Logger log = LoggerFactory.getLogger(HikariPoolSizer.class);
+
+  private final int configuredSize;
+  private final int databaseCores;
+
+  public HikariPoolSizer(
+      @Value("${app.datasource.pool-size:0}") int configuredSize,
+      @Value("${app.datasource.db-cores:0}") int databaseCores) {
+    this.configuredSize = configuredSize;
+    this.databaseCores = databaseCores;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof HikariDataSource dataSource) {
+      int cores =
+          databaseCores > 0 ? databaseCores : Runtime.getRuntime().availableProcessors();
+      int size = configuredSize > 0 ? configuredSize : cores * 2 + 1;
+      dataSource.setMaximumPoolSize(size);
+      dataSource.setMinimumIdle(size);
+      log.info("Connection pool {} sized to {} connections", dataSource.getPoolName(), size);
+    }
+    return bean;
+  }
+}
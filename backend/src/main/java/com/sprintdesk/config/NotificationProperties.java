@@ -0,0 +1,61 @@
+package com.sprintdesk.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.notifications")
+public class NotificationProperties {
+  private long dedupeWindowSeconds = 60;
+  private int fanoutBatchSize = 500;
+  private boolean digestEnabled = true;
+  private long digestWindowSeconds = 300;
+  private int pushBurst = 5;
+  private int pushesPerMinute = 12;
+
+  public long getDedupeWindowSeconds() {
+    return dedupeWindowSeconds;
+  }
+
+  public void setDedupeWindowSeconds(long dedupeWindowSeconds) {
+    this.dedupeWindowSeconds = dedupeWindowSeconds;
+  }
+
+  public int getFanoutBatchSize() {
+    return fanoutBatchSize;
+  }
+
+  public void setFanoutBatchSize(int fanoutBatchSize) {
+    this.fanoutBatchSize = fanoutBatchSize;
+  }
+
+  public boolean isDigestEnabled() {
+    return digestEnabled;
+  }
+
+  public void setDigestEnabled(boolean digestEnabled) {
+    this.digestEnabled = digestEnabled;
+  }
+
+  public long getDigestWindowSeconds() {
+    return digestWindowSeconds;
+  }
+
+  public void setDigestWindowSeconds(long digestWindowSeconds) {
+    this.digestWindowSeconds = digestWindowSeconds;
+  }
+
+  public int getPushBurst() {
+    return pushBurst;
+  }
+
+  public void setPushBurst(int pushBurst) {
+    this.pushBurst = pushBurst;
+  }
+
+  public int getPushesPerMinute() {
+    return pushesPerMinute;
+  }
+
+  public void setPushesPerMinute(int pushesPerMinute) {
+    this.pushesPerMinute = pushesPerMinute;
+  }
+}
@@ -0,0 +1,97 @@
+package com.sprintdesk.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.security.hashing")
+public class PasswordHashingProperties {
+  private int threads = 0;
+  private int queueCapacity = 32;
+  private long waitTimeoutMs = 5000;
+  private long retryAfterSeconds = 2;
+  private int maxPerIp = 4;
+  private int maxPerEmail = 2;
+  private long targetMs = 100;
+  private int bcryptStrength = 0;
+  private int minStrength = 10;
+  private int maxStrength = 14;
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public void setThreads(int threads) {
+    this.threads = threads;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  public long getWaitTimeoutMs() {
+    return waitTimeoutMs;
+  }
+
+  public void setWaitTimeoutMs(long waitTimeoutMs) {
+    this.waitTimeoutMs = waitTimeoutMs;
+  }
+
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+
+  public void setRetryAfterSeconds(long retryAfterSeconds) {
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  public int getMaxPerIp() {
+    return maxPerIp;
+  }
+
+  public void setMaxPerIp(int maxPerIp) {
+    this.maxPerIp = maxPerIp;
+  }
+
+  public int getMaxPerEmail() {
+    return maxPerEmail;
+  }
+
+  public void setMaxPerEmail(int maxPerEmail) {
+    this.maxPerEmail = maxPerEmail;
+  }
+
+  public long getTargetMs() {
+    return targetMs;
+  }
+
+  public void setTargetMs(long targetMs) {
+    this.targetMs = targetMs;
+  }
+
+  public int getBcryptStrength() {
+    return bcryptStrength;
+  }
+
+  public void setBcryptStrength(int bcryptStrength) {
+    this.bcryptStrength = bcryptStrength;
+  }
+
+  public int getMinStrength() {
+    return minStrength;
+  }
+
+  public void setMinStrength(int minStrength) {
+    this.minStrength = minStrength;
+  }
+
+  public int getMaxStrength() {
+    return maxStrength;
+  }
+
+  public void setMaxStrength(int maxStrength) {
+    this.maxStrength = maxStrength;
+  }
+}
@@ -0,0 +1,43 @@
+package com.sprintdesk.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.query-stats")
+public class QueryStatsProperties {
+  private boolean enabled = true;
+  private int warnStatements = 25;
+  private long warnMillis = 500;
+  private boolean enforceBudgets = false;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getWarnStatements() {
+    return warnStatements;
+  }
+
+  public void setWarnStatements(int warnStatements) {
+    this.warnStatements = warnStatements;
+  }
+
+  public long getWarnMillis() {
+    return warnMillis;
+  }
+
+  public void setWarnMillis(long warnMillis) {
+    this.warnMillis = warnMillis;
+  }
+
+  public boolean isEnforceBudgets() {
+    return enforceBudgets;
+  }
+
+  public void setEnforceBudgets(boolean enforceBudgets) {
+    this.enforceBudgets = enforceBudgets;
+  }
+}
@@ -0,0 +1,50 @@
+package com.sprintdesk.config;
+
+import com.sprintdesk.security.SecurityUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+  /**
+   * Marks the caller as a recent writer for any mutating request, both when it starts (so reads
+   * racing the write stay on the primary) and when it ends (so the sticky window covers the
+   * replication delay after commit). Runs after the security chain has resolved the user.
+   */
+  private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+  private final ReplicaRouting replicaRouting;
+  private final ReplicaProperties properties;
+
+  public ReadYourWritesFilter(ReplicaRouting replicaRouting, ReplicaProperties properties) {
+    this.replicaRouting = replicaRouting;
+    this.properties = properties;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isConfigured() || READ_METHODS.contains(request.getMethod());
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain)
+      throws ServletException, IOException {
+    UUID userId = SecurityUtils.getCurrentUserId();
+    replicaRouting.markWrite(userId);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      replicaRouting.markWrite(userId);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.sprintdesk.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+  /**
+   * Replaces Boot's single pool with primary + replica pools behind a routing proxy. The primary
+   * is still bound from spring.datasource.*; the replica copies its pool settings and only
+   * overrides the URL, credentials and a short connect timeout. To try it on one machine, point
+   * APP_DATASOURCE_REPLICA_URL at the primary database or a second local Postgres.
+   */
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+  }
+
+  @Bean
+  public ReplicaRoutingDataSource routingDataSource(
+      HikariDataSource primaryDataSource,
+      DataSourceProperties primaryProperties,
+      ReplicaProperties replicaProperties,
+      ReplicaRouting routing,
+      MeterRegistry meterRegistry) {
+    HikariDataSource replica = new HikariDataSource();
+    primaryDataSource.copyStateTo(replica);
+    replica.setJdbcUrl(replicaProperties.getUrl());
+    replica.setUsername(
+        replicaProperties.getUsername() != null
+            ? replicaProperties.getUsername()
+            : primaryProperties.determineUsername());
+    replica.setPassword(
+        replicaProperties.getPassword() != null
+            ? replicaProperties.getPassword()
+            : primaryProperties.determinePassword());
+    replica.setPoolName(
+        (primaryDataSource.getPoolName() != null ? primaryDataSource.getPoolName() : "sprintdesk")
+            + "-replica");
+    replica.setReadOnly(true);
+    replica.setConnectionTimeout(replicaProperties.getConnectTimeoutMs());
+    // Start even if the replica is down; the lag monitor keeps reads on the primary until it is up.
+    replica.setInitializationFailTimeout(-1);
+    replica.setMetricRegistry(null);
+    replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    return new ReplicaRoutingDataSource(primaryDataSource, replica, routing, meterRegistry);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      ReplicaRoutingDataSource routingDataSource,
+      ReplicaProperties replicaProperties,
+      ReplicaRouting routing,
+      MeterRegistry meterRegistry) {
+    return new ReplicaLagMonitor(
+        routingDataSource.getReplica(), routing, replicaProperties, meterRegistry);
+  }
+}
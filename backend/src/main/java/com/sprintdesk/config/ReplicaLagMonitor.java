@@ -0,0 +1,76 @@
+package com.sprintdesk.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicaLagMonitor {
+  /**
+   * Polls the replica's replay lag and switches replica reads off while it is unreachable or more
+   * than app.datasource.replica.max-lag-seconds behind. A replica that has replayed everything it
+   * received counts as current even if the primary has been idle; a server that is not in
+   * recovery (a single-instance stand-in) always reports zero.
+   */
+  private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+  private static final String LAG_SQL =
+      "SELECT CASE"
+          + " WHEN NOT pg_is_in_recovery() THEN 0"
+          + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+          + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)"
+          + " END";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ReplicaRouting routing;
+  private final ReplicaProperties properties;
+  private volatile double lagSeconds = Double.NaN;
+  private boolean checked;
+
+  public ReplicaLagMonitor(
+      DataSource replica,
+      ReplicaRouting routing,
+      ReplicaProperties properties,
+      MeterRegistry meterRegistry) {
+    this.jdbcTemplate = new JdbcTemplate(replica);
+    this.jdbcTemplate.setQueryTimeout(
+        (int) Math.max(1, (properties.getConnectTimeoutMs() + 999) / 1000));
+    this.routing = routing;
+    this.properties = properties;
+    Gauge.builder("sprintdesk.db.replica.lag.seconds", this, monitor -> monitor.lagSeconds)
+        .register(meterRegistry);
+    Gauge.builder("sprintdesk.db.replica.usable", routing, r -> r.isReplicaUsable() ? 1 : 0)
+        .register(meterRegistry);
+  }
+
+  @Scheduled(
+      initialDelay = 0,
+      fixedDelayString = "${app.datasource.replica.lag-check-ms:5000}")
+  public void check() {
+    routing.purgeExpired();
+    boolean usable;
+    try {
+      Double lag = jdbcTemplate.queryForObject(LAG_SQL, Double.class);
+      lagSeconds = lag == null ? 0 : lag;
+      usable = lagSeconds <= properties.getMaxLagSeconds();
+    } catch (DataAccessException ex) {
+      lagSeconds = Double.NaN;
+      usable = false;
+      if (routing.isReplicaUsable() || !checked) {
+        log.warn("Replica check failed, reading from the primary: {}", ex.getMessage());
+      }
+    }
+    if (usable != routing.isReplicaUsable()) {
+      log.info(
+          usable
+              ? "Replica reads enabled (lag {}s)"
+              : "Replica reads disabled (lag {}s), reading from the primary",
+          String.format("%.1f", lagSeconds));
+      routing.setReplicaUsable(usable);
+    }
+    checked = true;
+  }
+}
@@ -0,0 +1,74 @@
+package com.sprintdesk.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaProperties {
+  private String url;
+  private String username;
+  private String password;
+  private long maxLagSeconds = 5;
+  private long stickySeconds = 5;
+  private long lagCheckMs = 5000;
+  private long connectTimeoutMs = 2000;
+
+  public boolean isConfigured() {
+    return url != null && !url.isBlank();
+  }
+
+  public String getUrl() {
+    return url;
+  }
+
+  public void setUrl(String url) {
+    this.url = url;
+  }
+
+  public String getUsername() {
+    return username;
+  }
+
+  public void setUsername(String username) {
+    this.username = username;
+  }
+
+  public String getPassword() {
+    return password;
+  }
+
+  public void setPassword(String password) {
+    this.password = password;
+  }
+
+  public long getMaxLagSeconds() {
+    return maxLagSeconds;
+  }
+
+  public void setMaxLagSeconds(long maxLagSeconds) {
+    this.maxLagSeconds = maxLagSeconds;
+  }
+
+  public long getStickySeconds() {
+    return stickySeconds;
+  }
+
+  public void setStickySeconds(long stickySeconds) {
+    this.stickySeconds = stickySeconds;
+  }
+
+  public long getLagCheckMs() {
+    return lagCheckMs;
+  }
+
+  public void setLagCheckMs(long lagCheckMs) {
+    this.lagCheckMs = lagCheckMs;
+  }
+
+  public long getConnectTimeoutMs() {
+    return connectTimeoutMs;
+  }
+
+  public void setConnectTimeoutMs(long connectTimeoutMs) {
+    this.connectTimeoutMs = connectTimeoutMs;
+  }
+}
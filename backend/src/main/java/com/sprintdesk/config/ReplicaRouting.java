@@ -0,0 +1,110 @@
+package com.sprintdesk.config;
+
+import com.sprintdesk.security.SecurityUtils;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class ReplicaRouting {
+  /**
+   * Decides whether the current unit of work may read from the replica: only inside a
+   * {@code @Transactional(readOnly = true)} method, only while the lag monitor reports the replica
+   * healthy and within app.datasource.replica.max-lag-seconds, and never for a user who wrote in
+   * the last app.datasource.replica.sticky-seconds, so people always see their own changes.
+   * Without a replica URL this always answers "primary".
+   *
+   * <p>The sticky window is kept in this instance's memory. Behind a load balancer without
+   * session affinity, a user's next read may land on another instance that never saw the write
+   * and may go to the replica.
+   */
+  private static final Object REPLICA_ROUTED = new Object();
+
+  private final ReplicaProperties properties;
+  private final Map<UUID, Long> stickyUntil = new ConcurrentHashMap<>();
+  private volatile boolean replicaUsable;
+
+  public ReplicaRouting(ReplicaProperties properties) {
+    this.properties = properties;
+  }
+
+  public boolean useReplica() {
+    if (!replicaUsable || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return false;
+    }
+    UUID userId = SecurityUtils.getCurrentUserId();
+    return userId == null || !isSticky(userId);
+  }
+
+  /**
+   * Whether the current transaction's connection actually came from the replica. Unlike
+   * {@link #useReplica()}, which is a fresh decision that can change while a transaction runs,
+   * this reports the route that was taken.
+   */
+  public boolean routedToReplica() {
+    return TransactionSynchronizationManager.hasResource(REPLICA_ROUTED);
+  }
+
+  /** Pin {@code userId}'s reads to the primary for the sticky window. */
+  public void markWrite(UUID userId) {
+    if (userId == null || !properties.isConfigured()) {
+      return;
+    }
+    long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(properties.getStickySeconds());
+    stickyUntil.put(userId, until);
+  }
+
+  void recordReplicaRoute() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.hasResource(REPLICA_ROUTED)) {
+      return;
+    }
+    TransactionSynchronizationManager.bindResource(REPLICA_ROUTED, Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_ROUTED);
+          }
+
+          @Override
+          public void resume() {
+            TransactionSynchronizationManager.bindResource(REPLICA_ROUTED, Boolean.TRUE);
+          }
+
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_ROUTED);
+          }
+        });
+  }
+
+  void setReplicaUsable(boolean usable) {
+    this.replicaUsable = usable;
+  }
+
+  boolean isReplicaUsable() {
+    return replicaUsable;
+  }
+
+  void purgeExpired() {
+    long now = System.nanoTime();
+    stickyUntil.values().removeIf(until -> until - now <= 0);
+  }
+
+  private boolean isSticky(UUID userId) {
+    Long until = stickyUntil.get(userId);
+    if (until == null) {
+      return false;
+    }
+    if (until - System.nanoTime() > 0) {
+      return true;
+    }
+    stickyUntil.remove(userId, until);
+    return false;
+  }
+}
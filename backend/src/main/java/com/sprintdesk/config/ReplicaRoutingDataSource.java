@@ -0,0 +1,63 @@
+package com.sprintdesk.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+  /**
+   * Picks the primary or the replica pool when a connection is actually needed. It sits behind a
+   * {@code LazyConnectionDataSourceProxy}, so by then the transaction's read-only flag is known.
+   * Owns the replica pool and closes it on shutdown.
+   */
+  private static final String PRIMARY = "primary";
+  private static final String REPLICA = "replica";
+
+  private final ReplicaRouting routing;
+  private final HikariDataSource replica;
+  private final Counter primaryRoutes;
+  private final Counter replicaRoutes;
+
+  public ReplicaRoutingDataSource(
+      DataSource primary,
+      HikariDataSource replica,
+      ReplicaRouting routing,
+      MeterRegistry meterRegistry) {
+    this.routing = routing;
+    this.replica = replica;
+    this.primaryRoutes = routeCounter(meterRegistry, PRIMARY);
+    this.replicaRoutes = routeCounter(meterRegistry, REPLICA);
+    setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    setLenientFallback(false);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (routing.useReplica()) {
+      routing.recordReplicaRoute();
+      replicaRoutes.increment();
+      return REPLICA;
+    }
+    primaryRoutes.increment();
+    return PRIMARY;
+  }
+
+  public DataSource getReplica() {
+    return replica;
+  }
+
+  @Override
+  public void destroy() {
+    replica.close();
+  }
+
+  private static Counter routeCounter(MeterRegistry meterRegistry, String target) {
+    return Counter.builder("sprintdesk.db.route").tag("target", target).register(meterRegistry);
+  }
+}
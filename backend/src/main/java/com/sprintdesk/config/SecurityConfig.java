@@ -1,8 +1,15 @@
 package com.sprintdesk.config;
 
+import com.sprintdesk.security.BcryptCalibrator;
 import com.sprintdesk.security.JwtAuthenticationFilter;
 import com.sprintdesk.security.RestAccessDeniedHandler;
 import com.sprintdesk.security.RestAuthenticationEntryPoint;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -10,24 +17,31 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
+  private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
   private final JwtAuthenticationFilter jwtAuthenticationFilter;
   private final RestAuthenticationEntryPoint authenticationEntryPoint;
   private final RestAccessDeniedHandler accessDeniedHandler;
+  private final int managementPort;
 
   public SecurityConfig(
       JwtAuthenticationFilter jwtAuthenticationFilter,
       RestAuthenticationEntryPoint authenticationEntryPoint,
-      RestAccessDeniedHandler accessDeniedHandler) {
+      RestAccessDeniedHandler accessDeniedHandler,
+      @Value("${management.server.port:-1}") int managementPort) {
     this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     this.authenticationEntryPoint = authenticationEntryPoint;
     this.accessDeniedHandler = accessDeniedHandler;
+    this.managementPort = managementPort;
   }
 
   @Bean
@@ -46,6 +60,10 @@ public class SecurityConfig {
             auth ->
                 auth.requestMatchers("/api/health", "/actuator/health", "/actuator/health/**")
                     .permitAll()
+                    .requestMatchers(internalScrape())
+                    .permitAll()
+                    .requestMatchers("/actuator/**")
+                    .hasAnyRole("OWNER", "ADMIN")
                     .requestMatchers("/ws/**")
                     .permitAll()
                     .requestMatchers("/api/auth/**")
@@ -59,8 +77,45 @@ public class SecurityConfig {
     return http.build();
   }
 
+  /**
+   * Prometheus may scrape without a token only on a separate management port
+   * (MANAGEMENT_SERVER_PORT), which is expected to be reachable from the internal network only.
+   * Every other actuator endpoint except health needs an OWNER or ADMIN token.
+   */
+  private RequestMatcher internalScrape() {
+    return request ->
+        managementPort > 0
+            && request.getLocalPort() == managementPort
+            && "/actuator/prometheus".equals(request.getRequestURI());
+  }
+
+  /**
+   * New hashes are written as {@code {bcrypt}} at a cost calibrated for this host (or pinned with
+   * app.security.hashing.bcrypt-strength). Legacy unprefixed hashes still verify and are
+   * re-encoded on the next successful login.
+   */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+    BcryptCalibrator.Calibration calibration =
+        properties.getBcryptStrength() > 0
+            ? BcryptCalibrator.fixed(properties.getBcryptStrength())
+            : BcryptCalibrator.calibrate(
+                properties.getMinStrength(), properties.getMaxStrength(), properties.getTargetMs());
+    log.info(
+        "Password hashing uses bcrypt cost {} ({} ms per hash, target {} ms)",
+        calibration.strength(),
+        String.format("%.1f", calibration.hashMs()),
+        properties.getTargetMs());
+    Gauge.builder("auth.password.bcrypt.strength", calibration, c -> c.strength())
+        .register(meterRegistry);
+    Gauge.builder("auth.password.calibrated.ms", calibration, c -> c.hashMs())
+        .register(meterRegistry);
+
+    BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(calibration.strength());
+    DelegatingPasswordEncoder encoder =
+        new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+    encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+    return encoder;
   }
 }
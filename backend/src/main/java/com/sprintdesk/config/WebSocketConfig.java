@@ -1,6 +1,8 @@
 package com.sprintdesk.config;
 
+import com.sprintdesk.metrics.RealtimeMetrics;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -9,6 +11,12 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+  private final RealtimeMetrics realtimeMetrics;
+
+  public WebSocketConfig(RealtimeMetrics realtimeMetrics) {
+    this.realtimeMetrics = realtimeMetrics;
+  }
+
   @Override
   public void registerStompEndpoints(StompEndpointRegistry registry) {
     registry
@@ -17,6 +25,11 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         .withSockJS();
   }
 
+  @Override
+  public void configureClientInboundChannel(ChannelRegistration registration) {
+    registration.interceptors(realtimeMetrics);
+  }
+
   @Override
   public void configureMessageBroker(MessageBrokerRegistry registry) {
     registry.enableSimpleBroker("/topic");
@@ -1,10 +1,16 @@
 package com.sprintdesk.controller;
 
+import com.sprintdesk.dto.ArticleDiffLine;
 import com.sprintdesk.dto.ArticleRequest;
 import com.sprintdesk.dto.ArticleResponse;
+import com.sprintdesk.dto.ArticleRevisionResponse;
+import com.sprintdesk.dto.ArticleSummary;
+import com.sprintdesk.metrics.QueryBudget;
 import com.sprintdesk.security.SecurityUtils;
+import com.sprintdesk.service.ArticleRevisionService;
 import com.sprintdesk.service.ArticleService;
 import jakarta.validation.Valid;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -25,21 +31,46 @@ import org.springframework.web.server.ResponseStatusException;
 @RequestMapping("/api/workspaces/{workspaceId}/articles")
 public class ArticleController {
   private final ArticleService articleService;
+  private final ArticleRevisionService revisionService;
 
-  public ArticleController(ArticleService articleService) {
+  public ArticleController(ArticleService articleService, ArticleRevisionService revisionService) {
     this.articleService = articleService;
+    this.revisionService = revisionService;
   }
 
   @GetMapping
   public ResponseEntity<Map<String, Object>> listArticles(
-      @PathVariable UUID workspaceId, @RequestParam(required = false) String issueId) {
+      @PathVariable UUID workspaceId,
+      @RequestParam(required = false) String issueId,
+      @RequestParam(required = false) String view) {
     UUID userId = requireUser();
     UUID issue = issueId == null || issueId.isBlank() ? null : parseUuid(issueId);
+    if ("summary".equalsIgnoreCase(view)) {
+      List<ArticleSummary> articles = articleService.listArticleSummaries(workspaceId, userId, issue);
+      return ResponseEntity.ok(Map.of("articles", articles));
+    }
     List<ArticleResponse> articles = articleService.listArticles(workspaceId, userId, issue);
     return ResponseEntity.ok(Map.of("articles", articles));
   }
 
+  @GetMapping("/search")
+  public ResponseEntity<Map<String, Object>> searchArticles(
+      @PathVariable UUID workspaceId,
+      @RequestParam String q,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int limit) {
+    UUID userId = requireUser();
+    int safeLimit = Math.min(Math.max(limit, 1), 50);
+    ArticleService.SearchPage page =
+        articleService.searchArticles(workspaceId, userId, q, cursor, safeLimit);
+    Map<String, Object> response = new HashMap<>();
+    response.put("results", page.results());
+    response.put("nextCursor", page.nextCursor());
+    return ResponseEntity.ok(response);
+  }
+
   @PostMapping
+  @QueryBudget(9)
   public ResponseEntity<Map<String, Object>> createArticle(
       @PathVariable UUID workspaceId, @Valid @RequestBody ArticleRequest request) {
     UUID userId = requireUser();
@@ -56,6 +87,7 @@ public class ArticleController {
   }
 
   @PatchMapping("/{articleId}")
+  @QueryBudget(12)
   public ResponseEntity<Map<String, Object>> updateArticle(
       @PathVariable UUID workspaceId,
       @PathVariable UUID articleId,
@@ -73,6 +105,36 @@ public class ArticleController {
     return ResponseEntity.ok(Map.of("ok", true));
   }
 
+  @GetMapping("/{articleId}/revisions")
+  public ResponseEntity<Map<String, Object>> listRevisions(
+      @PathVariable UUID workspaceId, @PathVariable UUID articleId) {
+    UUID userId = requireUser();
+    List<ArticleRevisionResponse> revisions =
+        revisionService.listRevisions(workspaceId, userId, articleId);
+    return ResponseEntity.ok(Map.of("revisions", revisions));
+  }
+
+  @GetMapping("/{articleId}/revisions/{version}")
+  public ResponseEntity<Map<String, Object>> getRevision(
+      @PathVariable UUID workspaceId, @PathVariable UUID articleId, @PathVariable int version) {
+    UUID userId = requireUser();
+    ArticleRevisionResponse revision =
+        revisionService.getRevision(workspaceId, userId, articleId, version);
+    return ResponseEntity.ok(Map.of("revision", revision));
+  }
+
+  @GetMapping("/{articleId}/diff")
+  public ResponseEntity<Map<String, Object>> diffRevisions(
+      @PathVariable UUID workspaceId,
+      @PathVariable UUID articleId,
+      @RequestParam int from,
+      @RequestParam int to) {
+    UUID userId = requireUser();
+    List<ArticleDiffLine> lines =
+        revisionService.diffRevisions(workspaceId, userId, articleId, from, to);
+    return ResponseEntity.ok(Map.of("from", from, "to", to, "lines", lines));
+  }
+
   private UUID requireUser() {
     UUID userId = SecurityUtils.getCurrentUserId();
     if (userId == null) {
@@ -42,14 +42,16 @@ public class AuthController {
   }
 
   @PostMapping("/register")
-  public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
-    AuthPayload payload = authService.register(request);
+  public ResponseEntity<AuthResponse> register(
+      @Valid @RequestBody RegisterRequest request, HttpServletRequest servletRequest) {
+    AuthPayload payload = authService.register(request, servletRequest.getRemoteAddr());
     return buildResponse(payload);
   }
 
   @PostMapping("/login")
-  public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-    AuthPayload payload = authService.login(request);
+  public ResponseEntity<AuthResponse> login(
+      @Valid @RequestBody LoginRequest request, HttpServletRequest servletRequest) {
+    AuthPayload payload = authService.login(request, servletRequest.getRemoteAddr());
     return buildResponse(payload);
   }
 
@@ -5,7 +5,7 @@ import com.sprintdesk.dto.CommentResponse;
 import com.sprintdesk.security.SecurityUtils;
 import com.sprintdesk.service.CommentService;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -28,10 +29,21 @@ public class CommentController {
   }
 
   @GetMapping
-  public ResponseEntity<Map<String, Object>> listComments(@PathVariable UUID issueId) {
+  public ResponseEntity<Map<String, Object>> listComments(
+      @PathVariable UUID issueId,
+      @RequestParam(required = false) String before,
+      @RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "50") int limit) {
     UUID userId = requireUser();
-    List<CommentResponse> comments = commentService.listComments(issueId, userId);
-    return ResponseEntity.ok(Map.of("comments", comments));
+    int safeLimit = Math.min(Math.max(limit, 1), 200);
+    CommentService.CommentPage page =
+        commentService.listComments(issueId, userId, before, after, safeLimit);
+    Map<String, Object> response = new HashMap<>();
+    response.put("comments", page.comments());
+    response.put("prevCursor", page.prevCursor());
+    response.put("nextCursor", page.nextCursor());
+    response.put("latestCursor", page.latestCursor());
+    return ResponseEntity.ok(response);
   }
 
   @PostMapping
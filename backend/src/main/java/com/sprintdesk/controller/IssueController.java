@@ -1,9 +1,11 @@
 package com.sprintdesk.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.sprintdesk.dto.ArticleSuggestion;
 import com.sprintdesk.dto.CreateIssueRequest;
 import com.sprintdesk.dto.IssueResponse;
 import com.sprintdesk.dto.IssueUpdateCommand;
+import com.sprintdesk.metrics.QueryBudget;
 import com.sprintdesk.model.IssuePriority;
 import com.sprintdesk.model.IssueStatus;
 import com.sprintdesk.security.SecurityUtils;
@@ -37,6 +39,7 @@ public class IssueController {
   }
 
   @GetMapping
+  @QueryBudget(8)
   public ResponseEntity<Map<String, Object>> listIssues(
       @PathVariable UUID workspaceId,
       @RequestParam(required = false) String status,
@@ -87,6 +90,18 @@ public class IssueController {
     return ResponseEntity.ok(Map.of("issue", issue));
   }
 
+  @GetMapping("/{issueId}/suggested-articles")
+  public ResponseEntity<Map<String, Object>> suggestArticles(
+      @PathVariable UUID workspaceId,
+      @PathVariable UUID issueId,
+      @RequestParam(defaultValue = "5") int limit) {
+    UUID userId = requireUser();
+    int safeLimit = Math.min(Math.max(limit, 1), 20);
+    List<ArticleSuggestion> articles =
+        issueService.suggestArticles(workspaceId, userId, issueId, safeLimit);
+    return ResponseEntity.ok(Map.of("articles", articles));
+  }
+
   @PatchMapping("/{issueId}")
   public ResponseEntity<Map<String, Object>> updateIssue(
       @PathVariable UUID workspaceId,
@@ -3,7 +3,7 @@ package com.sprintdesk.controller;
 import com.sprintdesk.dto.NotificationResponse;
 import com.sprintdesk.security.SecurityUtils;
 import com.sprintdesk.service.NotificationService;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
@@ -27,12 +27,25 @@ public class NotificationController {
 
   @GetMapping
   public ResponseEntity<Map<String, Object>> listNotifications(
-      @RequestParam(required = false) String unread) {
+      @RequestParam(required = false) String unread,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "30") int limit) {
     UUID userId = requireUser();
     boolean unreadOnly = "true".equalsIgnoreCase(unread);
-    List<NotificationResponse> notifications =
-        notificationService.listNotifications(userId, unreadOnly);
-    return ResponseEntity.ok(Map.of("notifications", notifications));
+    int safeLimit = Math.min(Math.max(limit, 1), 100);
+    NotificationService.NotificationPage page =
+        notificationService.listNotifications(userId, unreadOnly, cursor, safeLimit);
+    Map<String, Object> response = new HashMap<>();
+    response.put("notifications", page.notifications());
+    response.put("nextCursor", page.nextCursor());
+    response.put("unreadCount", page.unreadCount());
+    return ResponseEntity.ok(response);
+  }
+
+  @GetMapping("/unread-count")
+  public ResponseEntity<Map<String, Object>> unreadCount() {
+    UUID userId = requireUser();
+    return ResponseEntity.ok(Map.of("count", notificationService.getUnreadCount(userId)));
   }
 
   @PatchMapping("/read-all")
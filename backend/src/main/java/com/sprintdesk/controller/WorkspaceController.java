@@ -7,6 +7,7 @@ import com.sprintdesk.dto.MemberOverviewResponse;
 import com.sprintdesk.dto.UpdateWorkspaceRoleRequest;
 import com.sprintdesk.dto.WorkspaceMemberResponse;
 import com.sprintdesk.dto.WorkspaceResponse;
+import com.sprintdesk.metrics.QueryBudget;
 import com.sprintdesk.model.WorkspaceInvite;
 import com.sprintdesk.model.WorkspaceMember;
 import com.sprintdesk.model.WorkspaceRole;
@@ -99,6 +100,7 @@ public class WorkspaceController {
   }
 
   @GetMapping("/{workspaceId}/members/{memberId}/overview")
+  @QueryBudget(10)
   public ResponseEntity<MemberOverviewResponse> getMemberOverview(
       @PathVariable UUID workspaceId, @PathVariable UUID memberId) {
     requireMember(workspaceId);
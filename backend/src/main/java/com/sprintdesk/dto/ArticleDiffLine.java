@@ -0,0 +1,3 @@
+package com.sprintdesk.dto;
+
+public record ArticleDiffLine(String op, String text) {}
@@ -0,0 +1,10 @@
+package com.sprintdesk.dto;
+
+public record ArticleRevisionResponse(
+    int version,
+    String kind,
+    String title,
+    String body,
+    int bodyLength,
+    String createdAt,
+    UserSummary createdBy) {}
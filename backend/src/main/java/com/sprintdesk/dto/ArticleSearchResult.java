@@ -0,0 +1,11 @@
+package com.sprintdesk.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record ArticleSearchResult(
+    @JsonProperty("_id") String id,
+    String kbId,
+    String title,
+    String snippet,
+    double rank,
+    String updatedAt) {}
@@ -0,0 +1,9 @@
+package com.sprintdesk.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record ArticleSuggestion(
+    @JsonProperty("_id") String id,
+    String kbId,
+    String title,
+    double score) {}
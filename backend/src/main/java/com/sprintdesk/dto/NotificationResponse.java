@@ -6,6 +6,7 @@ public record NotificationResponse(
     @JsonProperty("_id") String id,
     String message,
     String type,
+    int count,
     String readAt,
     String createdAt,
     String issueId) {}
\ No newline at end of file
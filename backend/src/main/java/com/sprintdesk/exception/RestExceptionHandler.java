@@ -47,7 +47,9 @@ public class RestExceptionHandler {
     if (message == null || message.isBlank()) {
       message = status.getReasonPhrase();
     }
-    return ResponseEntity.status(status).body(new ApiError(message, "request_failed", null));
+    return ResponseEntity.status(status)
+        .headers(ex.getHeaders())
+        .body(new ApiError(message, "request_failed", null));
   }
 
   @ExceptionHandler(Exception.class)
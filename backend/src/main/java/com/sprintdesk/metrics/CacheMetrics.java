@@ -0,0 +1,38 @@
+package com.sprintdesk.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hit and miss counters for one in-process cache, published as
+ * {@code sprintdesk.cache.requests{cache, result}} so dashboards can derive the hit ratio.
+ */
+public final class CacheMetrics {
+  private final Counter hits;
+  private final Counter misses;
+
+  private CacheMetrics(Counter hits, Counter misses) {
+    this.hits = hits;
+    this.misses = misses;
+  }
+
+  public static CacheMetrics register(MeterRegistry meterRegistry, String cache) {
+    return new CacheMetrics(
+        counter(meterRegistry, cache, "hit"), counter(meterRegistry, cache, "miss"));
+  }
+
+  public void hit() {
+    hits.increment();
+  }
+
+  public void miss() {
+    misses.increment();
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String cache, String result) {
+    return Counter.builder("sprintdesk.cache.requests")
+        .tag("cache", cache)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
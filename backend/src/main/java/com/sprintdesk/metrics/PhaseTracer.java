@@ -0,0 +1,92 @@
+package com.sprintdesk.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PhaseTracer {
+  /**
+   * In-process spans for the phases of a hot operation (membership check, load, save, activity,
+   * realtime publish, notification). Each phase feeds a {@code sprintdesk.phase} timer whose
+   * percentiles come from a rolling HDR histogram, so /actuator/phases shows where recent requests
+   * spent their time without an external collector.
+   *
+   * <pre>
+   * try (PhaseTracer.Trace trace = tracer.start("issue.update")) {
+   *   trace.phase("membership");
+   *   ...
+   *   trace.phase("save");
+   *   ...
+   * }
+   * </pre>
+   */
+  static final String METER = "sprintdesk.phase";
+  static final String TOTAL = "total";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+  public PhaseTracer(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  public Trace start(String operation) {
+    return new Trace(operation, System.nanoTime());
+  }
+
+  private void record(String operation, String phase, long nanos) {
+    timers
+        .computeIfAbsent(
+            operation + '/' + phase,
+            key ->
+                Timer.builder(METER)
+                    .tag("operation", operation)
+                    .tag("phase", phase)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .distributionStatisticExpiry(Duration.ofMinutes(5))
+                    .distributionStatisticBufferLength(5)
+                    .register(meterRegistry))
+        .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  /** One run of an operation. Not thread-safe; phases run back to back on the calling thread. */
+  public final class Trace implements AutoCloseable {
+    private final String operation;
+    private final long startedAt;
+    private String phase;
+    private long phaseStartedAt;
+
+    private Trace(String operation, long startedAt) {
+      this.operation = operation;
+      this.startedAt = startedAt;
+    }
+
+    /** Ends the current phase, if any, and starts the named one. */
+    public void phase(String name) {
+      long now = System.nanoTime();
+      endPhase(now);
+      phase = name;
+      phaseStartedAt = now;
+    }
+
+    /** Records the last phase and the whole operation, including failed runs. */
+    @Override
+    public void close() {
+      long now = System.nanoTime();
+      endPhase(now);
+      record(operation, TOTAL, now - startedAt);
+    }
+
+    private void endPhase(long now) {
+      if (phase != null) {
+        record(operation, phase, now - phaseStartedAt);
+        phase = null;
+      }
+    }
+  }
+}
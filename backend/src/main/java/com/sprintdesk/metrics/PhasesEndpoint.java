@@ -0,0 +1,75 @@
+package com.sprintdesk.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "phases")
+public class PhasesEndpoint {
+  /**
+   * Per-phase latency of traced operations in milliseconds, grouped by operation. Count and mean
+   * are since startup; max and the percentiles cover the last few minutes.
+   */
+  private final MeterRegistry meterRegistry;
+
+  public PhasesEndpoint(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @ReadOperation
+  public Map<String, Map<String, PhaseStats>> phases() {
+    return collect(null);
+  }
+
+  @ReadOperation
+  public Map<String, PhaseStats> operation(@Selector String operation) {
+    return collect(operation).getOrDefault(operation, Map.of());
+  }
+
+  private Map<String, Map<String, PhaseStats>> collect(String onlyOperation) {
+    Map<String, Map<String, PhaseStats>> result = new TreeMap<>();
+    for (Timer timer : meterRegistry.find(PhaseTracer.METER).timers()) {
+      String operation = timer.getId().getTag("operation");
+      String phase = timer.getId().getTag("phase");
+      if (operation == null || phase == null) {
+        continue;
+      }
+      if (onlyOperation != null && !onlyOperation.equals(operation)) {
+        continue;
+      }
+      result.computeIfAbsent(operation, key -> new TreeMap<>()).put(phase, stats(timer));
+    }
+    return result;
+  }
+
+  private static PhaseStats stats(Timer timer) {
+    HistogramSnapshot snapshot = timer.takeSnapshot();
+    Map<String, Double> percentiles = new LinkedHashMap<>();
+    for (ValueAtPercentile value : snapshot.percentileValues()) {
+      percentiles.put(
+          "p" + Math.round(value.percentile() * 100), round(value.value(TimeUnit.MILLISECONDS)));
+    }
+    return new PhaseStats(
+        snapshot.count(),
+        round(snapshot.mean(TimeUnit.MILLISECONDS)),
+        round(snapshot.max(TimeUnit.MILLISECONDS)),
+        percentiles);
+  }
+
+  private static double round(double millis) {
+    return Math.round(millis * 100) / 100.0;
+  }
+
+  public record PhaseStats(
+      long count, double meanMs, double maxMs, Map<String, Double> recentMs) {}
+}
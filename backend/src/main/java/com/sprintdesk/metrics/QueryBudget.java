@@ -0,0 +1,17 @@
+package com.sprintdesk.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of JDBC statements one call to the annotated endpoint may run. Requests over
+ * budget are logged and counted; with app.query-stats.enforce-budgets they fail instead, which is
+ * how integration tests pin an endpoint's query count.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+  int value();
+}
@@ -0,0 +1,84 @@
+package com.sprintdesk.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+public final class QueryStats {
+  /**
+   * Per-thread count of JDBC statements and the time spent executing them. The HTTP filter opens a
+   * scope for each request; tests can open their own with {@link #measure(Runnable)} to pin the
+   * number of statements a service call issues.
+   */
+  private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+  private QueryStats() {}
+
+  public static Snapshot measure(Runnable action) {
+    Scope outer = CURRENT.get();
+    Scope scope = new Scope();
+    CURRENT.set(scope);
+    try {
+      action.run();
+    } finally {
+      if (outer == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(outer);
+        outer.statements += scope.statements;
+        outer.nanos += scope.nanos;
+      }
+    }
+    return scope.snapshot();
+  }
+
+  /**
+   * Fails with an {@link AssertionError} if {@code action} issues more than {@code maxStatements}
+   * statements.
+   */
+  public static Snapshot assertAtMost(int maxStatements, Runnable action) {
+    Snapshot snapshot = measure(action);
+    if (snapshot.statements() > maxStatements) {
+      throw new AssertionError(
+          "Expected at most " + maxStatements + " statements but ran " + snapshot.statements());
+    }
+    return snapshot;
+  }
+
+  /** The counts so far in the current scope, or null when none is open. */
+  public static Snapshot current() {
+    Scope scope = CURRENT.get();
+    return scope == null ? null : scope.snapshot();
+  }
+
+  static void begin() {
+    CURRENT.set(new Scope());
+  }
+
+  static Snapshot end() {
+    Scope scope = CURRENT.get();
+    CURRENT.remove();
+    return scope == null ? null : scope.snapshot();
+  }
+
+  static void record(long nanos) {
+    Scope scope = CURRENT.get();
+    if (scope != null) {
+      scope.statements++;
+      scope.nanos += nanos;
+    }
+  }
+
+  private static final class Scope {
+    private int statements;
+    private long nanos;
+
+    private Snapshot snapshot() {
+      return new Snapshot(statements, nanos);
+    }
+  }
+
+  public record Snapshot(int statements, long nanos) {
+    public double millis() {
+      return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.sprintdesk.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class QueryStatsDataSource extends DelegatingDataSource {
+  /**
+   * Counts every statement executed through the application's DataSource into the current
+   * {@link QueryStats} scope, whether it came from Hibernate, a JdbcTemplate repository or a
+   * scheduled job. Connections and the statements they create are wrapped in JDK proxies; each
+   * execute call (a batch counts once, like one round trip) is timed. Extends
+   * DelegatingDataSource so pool metrics and health checks still reach the pool underneath.
+   */
+  public QueryStatsDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrap(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return wrap(super.getConnection(username, password));
+  }
+
+  private static Connection wrap(Connection connection) {
+    return proxy(Connection.class, new ConnectionHandler(connection));
+  }
+
+  private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            QueryStatsDataSource.class.getClassLoader(), new Class<?>[] {type}, handler));
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException ex) {
+      throw ex.getTargetException();
+    }
+  }
+
+  private static Object identity(Object proxy, Method method, Object[] args) {
+    return switch (method.getName()) {
+      case "equals" -> proxy == args[0];
+      case "hashCode" -> System.identityHashCode(proxy);
+      default -> null;
+    };
+  }
+
+  private static final class ConnectionHandler implements InvocationHandler {
+    private final Connection target;
+
+    private ConnectionHandler(Connection target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object identity = identity(proxy, method, args);
+      if (identity != null) {
+        return identity;
+      }
+      Object result = QueryStatsDataSource.invoke(target, method, args);
+      if (result instanceof Statement statement
+          && Statement.class.isAssignableFrom(method.getReturnType())) {
+        return proxy(
+            method.getReturnType(), new StatementHandler(statement, (Connection) proxy));
+      }
+      return result;
+    }
+  }
+
+  private static final class StatementHandler implements InvocationHandler {
+    private final Statement target;
+    private final Connection connection;
+
+    private StatementHandler(Statement target, Connection connection) {
+      this.target = target;
+      this.connection = connection;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object identity = identity(proxy, method, args);
+      if (identity != null) {
+        return identity;
+      }
+      if (method.getName().equals("getConnection")) {
+        return connection;
+      }
+      if (!method.getName().startsWith("execute")) {
+        return QueryStatsDataSource.invoke(target, method, args);
+      }
+      long started = System.nanoTime();
+      try {
+        return QueryStatsDataSource.invoke(target, method, args);
+      } finally {
+        QueryStats.record(System.nanoTime() - started);
+      }
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.sprintdesk.metrics;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueryStatsDataSourceWrapper implements BeanPostProcessor {
+  /**
+   * Wraps the application's "dataSource" bean (the pool itself, or the lazy routing proxy when a
+   * replica is configured) in a {@link QueryStatsDataSource}. Only that bean is wrapped so a
+   * statement is never counted twice on its way through the routing layer to a pool.
+   */
+  static final String DATA_SOURCE_BEAN = "dataSource";
+
+  private final boolean enabled;
+
+  public QueryStatsDataSourceWrapper(@Value("${app.query-stats.enabled:true}") boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (enabled
+        && DATA_SOURCE_BEAN.equals(beanName)
+        && bean instanceof DataSource dataSource
+        && !(bean instanceof QueryStatsDataSource)) {
+      return new QueryStatsDataSource(dataSource);
+    }
+    return bean;
+  }
+}
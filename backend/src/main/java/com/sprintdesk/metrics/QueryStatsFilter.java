@@ -0,0 +1,121 @@
+package com.sprintdesk.metrics;
+
+import com.sprintdesk.config.QueryStatsProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryStatsFilter extends OncePerRequestFilter {
+  /**
+   * Counts the JDBC statements each HTTP request runs (Hibernate and JdbcTemplate alike, see
+   * {@link QueryStatsDataSource}) and how long they took. The totals go out as a {@code
+   * Server-Timing} header and as per-route meters, and requests over their {@link QueryBudget} (or
+   * the default thresholds) are logged so N+1 patterns show up before they reach production.
+   */
+  static final String SERVER_TIMING = "Server-Timing";
+
+  private static final Logger log = LoggerFactory.getLogger(QueryStatsFilter.class);
+
+  private final QueryStatsProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  public QueryStatsFilter(QueryStatsProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    return !properties.isEnabled() || path.startsWith("/ws") || path.startsWith("/actuator");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain)
+      throws ServletException, IOException {
+    QueryStats.begin();
+    QueryStats.Snapshot snapshot;
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      snapshot = QueryStats.end();
+    }
+    if (snapshot == null) {
+      return;
+    }
+    if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+      response.setHeader(SERVER_TIMING, serverTiming(snapshot));
+    }
+    record(request, snapshot);
+  }
+
+  static String serverTiming(QueryStats.Snapshot snapshot) {
+    return String.format(
+        Locale.ROOT,
+        "db;dur=%.1f;desc=\"%d statements\"",
+        snapshot.millis(),
+        snapshot.statements());
+  }
+
+  /** The {@link QueryBudget} of the handler that served this request, if it declares one. */
+  static QueryBudget budget(HttpServletRequest request) {
+    Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+    return handler instanceof HandlerMethod method
+        ? method.getMethodAnnotation(QueryBudget.class)
+        : null;
+  }
+
+  private void record(HttpServletRequest request, QueryStats.Snapshot snapshot) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String route = pattern == null ? "UNKNOWN" : pattern.toString();
+    DistributionSummary.builder("sprintdesk.http.db.statements")
+        .tag("uri", route)
+        .register(meterRegistry)
+        .record(snapshot.statements());
+    Timer.builder("sprintdesk.http.db")
+        .tag("uri", route)
+        .register(meterRegistry)
+        .record(snapshot.nanos(), TimeUnit.NANOSECONDS);
+
+    QueryBudget budget = budget(request);
+    int maxStatements = budget != null ? budget.value() : properties.getWarnStatements();
+    boolean overStatements = snapshot.statements() > maxStatements;
+    boolean overTime = snapshot.millis() > properties.getWarnMillis();
+    if (overStatements || overTime) {
+      meterRegistry
+          .counter(
+              "sprintdesk.http.db.over_budget",
+              "uri", route,
+              "reason", overStatements ? "statements" : "time")
+          .increment();
+      log.warn(
+          "{} {} ran {} statements in {} ms (budget {} statements, {} ms)",
+          request.getMethod(),
+          route,
+          snapshot.statements(),
+          String.format(Locale.ROOT, "%.1f", snapshot.millis()),
+          maxStatements,
+          properties.getWarnMillis());
+    }
+  }
+}
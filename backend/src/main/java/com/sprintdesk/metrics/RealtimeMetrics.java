@@ -0,0 +1,91 @@
+package com.sprintdesk.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+@Component
+public class RealtimeMetrics implements ChannelInterceptor {
+  /**
+   * STOMP gauges and counters: open sessions and subscriptions, inbound frames by command, and
+   * events published by RealtimeService by channel and type. Registered as an interceptor on the
+   * client inbound channel in WebSocketConfig.
+   */
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Set<String>> subscriptionsBySession = new ConcurrentHashMap<>();
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  public RealtimeMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    Gauge.builder("sprintdesk.stomp.sessions", subscriptionsBySession, Map::size)
+        .register(meterRegistry);
+    Gauge.builder(
+            "sprintdesk.stomp.subscriptions",
+            subscriptionsBySession,
+            sessions -> sessions.values().stream().mapToInt(Set::size).sum())
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Message<?> preSend(Message<?> message, MessageChannel channel) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+    StompCommand command = accessor.getCommand();
+    if (command == null) {
+      return message;
+    }
+    counter("sprintdesk.stomp.frames", "command", command.name()).increment();
+    if ((command == StompCommand.CONNECT || command == StompCommand.STOMP)
+        && accessor.getSessionId() != null) {
+      subscriptionsBySession.putIfAbsent(accessor.getSessionId(), ConcurrentHashMap.newKeySet());
+    }
+    return message;
+  }
+
+  public void published(String channel, String type) {
+    counter("sprintdesk.realtime.published", "channel", channel, "type", type).increment();
+  }
+
+  @EventListener
+  public void onSubscribe(SessionSubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    if (accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+      subscriptionsBySession
+          .computeIfAbsent(accessor.getSessionId(), id -> ConcurrentHashMap.newKeySet())
+          .add(accessor.getSubscriptionId());
+    }
+  }
+
+  @EventListener
+  public void onUnsubscribe(SessionUnsubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    Set<String> subscriptions =
+        accessor.getSessionId() == null ? null : subscriptionsBySession.get(accessor.getSessionId());
+    if (subscriptions != null && accessor.getSubscriptionId() != null) {
+      subscriptions.remove(accessor.getSubscriptionId());
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    subscriptionsBySession.remove(event.getSessionId());
+  }
+
+  private Counter counter(String name, String... tags) {
+    return counters.computeIfAbsent(
+        name + String.join(".", tags),
+        key -> Counter.builder(name).tags(tags).register(meterRegistry));
+  }
+}
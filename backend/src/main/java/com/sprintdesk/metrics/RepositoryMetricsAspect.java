@@ -0,0 +1,117 @@
+package com.sprintdesk.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+  /**
+   * Times every repository call as {@code sprintdesk.repository} and records how many rows
+   * each read returned as {@code sprintdesk.repository.rows}. Covers Spring Data interfaces,
+   * including inherited methods such as save and findById, and the JDBC-backed repositories.
+   */
+  private static final String REPOSITORY_PACKAGE = "com.sprintdesk.repository";
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+  private final Map<String, DistributionSummary> rows = new ConcurrentHashMap<>();
+  private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+  public RepositoryMetricsAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around(
+      "execution(* org.springframework.data.repository.Repository+.*(..))"
+          + " || within(com.sprintdesk.repository..*)")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    String repository =
+        repositoryName(joinPoint.getThis(), joinPoint.getSignature().getDeclaringType());
+    String method = joinPoint.getSignature().getName();
+    long start = System.nanoTime();
+    String outcome = "success";
+    try {
+      Object result = joinPoint.proceed();
+      int count = rowCount(result);
+      if (count >= 0) {
+        rowSummary(repository, method).record(count);
+      }
+      return result;
+    } catch (Throwable ex) {
+      outcome = ex.getClass().getSimpleName();
+      throw ex;
+    } finally {
+      timer(repository, method, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Rows in a query result, or -1 when the result is not a row set (counts, update results).
+   */
+  private static int rowCount(Object result) {
+    if (result instanceof Collection<?> collection) {
+      return collection.size();
+    }
+    if (result instanceof Slice<?> slice) {
+      return slice.getNumberOfElements();
+    }
+    if (result instanceof Optional<?> optional) {
+      return optional.isPresent() ? 1 : 0;
+    }
+    return -1;
+  }
+
+  private String repositoryName(Object proxy, Class<?> declaringType) {
+    if (proxy == null) {
+      return declaringType.getSimpleName();
+    }
+    return repositoryNames.computeIfAbsent(
+        proxy.getClass(),
+        type -> {
+          for (Class<?> candidate : type.getInterfaces()) {
+            if (candidate.getPackageName().startsWith(REPOSITORY_PACKAGE)) {
+              return candidate.getSimpleName();
+            }
+          }
+          Class<?> current = type;
+          while (current != null && !current.getPackageName().startsWith(REPOSITORY_PACKAGE)) {
+            current = current.getSuperclass();
+          }
+          return current != null ? current.getSimpleName() : declaringType.getSimpleName();
+        });
+  }
+
+  private Timer timer(String repository, String method, String outcome) {
+    return timers.computeIfAbsent(
+        repository + '.' + method + '.' + outcome,
+        key ->
+            Timer.builder("sprintdesk.repository")
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+  }
+
+  private DistributionSummary rowSummary(String repository, String method) {
+    return rows.computeIfAbsent(
+        repository + '.' + method,
+        key ->
+            DistributionSummary.builder("sprintdesk.repository.rows")
+                .baseUnit("rows")
+                .tag("repository", repository)
+                .tag("method", method)
+                .register(meterRegistry));
+  }
+}
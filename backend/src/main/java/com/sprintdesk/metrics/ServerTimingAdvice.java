@@ -0,0 +1,60 @@
+package com.sprintdesk.metrics;
+
+import com.sprintdesk.config.QueryStatsProperties;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+  /**
+   * Response headers have to be set before the body is written, so the {@code Server-Timing}
+   * header for JSON responses is added here rather than in {@link QueryStatsFilter}. With
+   * app.query-stats.enforce-budgets, an endpoint that ran more statements than its
+   * {@link QueryBudget} fails here instead of returning its body.
+   */
+  private final QueryStatsProperties properties;
+
+  public ServerTimingAdvice(QueryStatsProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public boolean supports(
+      MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return properties.isEnabled();
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    QueryStats.Snapshot snapshot = QueryStats.current();
+    if (snapshot == null) {
+      return body;
+    }
+    QueryBudget budget = returnType.getMethodAnnotation(QueryBudget.class);
+    if (properties.isEnforceBudgets() && budget != null && snapshot.statements() > budget.value()) {
+      throw new ResponseStatusException(
+          HttpStatus.INTERNAL_SERVER_ERROR,
+          "Query budget exceeded: "
+              + snapshot.statements()
+              + " statements, budget "
+              + budget.value());
+    }
+    response
+        .getHeaders()
+        .set(QueryStatsFilter.SERVER_TIMING, QueryStatsFilter.serverTiming(snapshot));
+    return body;
+  }
+}
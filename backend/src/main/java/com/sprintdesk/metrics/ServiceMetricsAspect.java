@@ -0,0 +1,54 @@
+package com.sprintdesk.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+  /**
+   * Times every public method on the application's {@code *Service} beans as
+   * {@code sprintdesk.service}, tagged with the service, method and outcome (the exception's
+   * simple name on failure).
+   */
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+  public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("execution(public * com.sprintdesk..*Service.*(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+    String method = joinPoint.getSignature().getName();
+    long start = System.nanoTime();
+    String outcome = "success";
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable ex) {
+      outcome = ex.getClass().getSimpleName();
+      throw ex;
+    } finally {
+      timer(service, method, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private Timer timer(String service, String method, String outcome) {
+    return timers.computeIfAbsent(
+        service + '.' + method + '.' + outcome,
+        key ->
+            Timer.builder("sprintdesk.service")
+                .tag("service", service)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+  }
+}
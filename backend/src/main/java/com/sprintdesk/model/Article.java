@@ -13,8 +13,10 @@ import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -40,7 +42,7 @@ public class Article {
   @ElementCollection(fetch = FetchType.LAZY)
   @CollectionTable(name = "article_links", joinColumns = @JoinColumn(name = "article_id"))
   @Column(name = "issue_id")
-  private List<UUID> linkedIssueIds = new ArrayList<>();
+  private Set<UUID> linkedIssueIds = new LinkedHashSet<>();
 
   @Column(name = "created_by")
   private UUID createdBy;
@@ -103,11 +105,19 @@ public class Article {
   }
 
   public List<UUID> getLinkedIssueIds() {
-    return linkedIssueIds;
-  }
-
-  public void setLinkedIssueIds(List<UUID> linkedIssueIds) {
-    this.linkedIssueIds = linkedIssueIds == null ? new ArrayList<>() : new ArrayList<>(linkedIssueIds);
+    return List.copyOf(linkedIssueIds);
+  }
+
+  /**
+   * Updates the link set in place so Hibernate only writes the rows that were added or removed.
+   */
+  public void setLinkedIssueIds(Collection<UUID> linkedIssueIds) {
+    if (linkedIssueIds == null || linkedIssueIds.isEmpty()) {
+      this.linkedIssueIds.clear();
+      return;
+    }
+    this.linkedIssueIds.retainAll(linkedIssueIds);
+    this.linkedIssueIds.addAll(linkedIssueIds);
   }
 
   public UUID getCreatedBy() {
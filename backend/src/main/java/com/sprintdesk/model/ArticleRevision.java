@@ -0,0 +1,116 @@
+package com.sprintdesk.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "article_revisions")
+public class ArticleRevision {
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(name = "id", nullable = false, updatable = false)
+  private UUID id;
+
+  @Column(name = "article_id", nullable = false)
+  private UUID articleId;
+
+  @Column(name = "version", nullable = false)
+  private int version;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "kind", nullable = false, length = 16)
+  private RevisionKind kind;
+
+  @Column(name = "title", nullable = false, length = 255)
+  private String title;
+
+  @Column(name = "payload", nullable = false)
+  private byte[] payload;
+
+  @Column(name = "body_length", nullable = false)
+  private int bodyLength;
+
+  @Column(name = "created_by")
+  private UUID createdBy;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+
+  @PrePersist
+  public void onCreate() {
+    this.createdAt = Instant.now();
+  }
+
+  public UUID getId() {
+    return id;
+  }
+
+  public UUID getArticleId() {
+    return articleId;
+  }
+
+  public void setArticleId(UUID articleId) {
+    this.articleId = articleId;
+  }
+
+  public int getVersion() {
+    return version;
+  }
+
+  public void setVersion(int version) {
+    this.version = version;
+  }
+
+  public RevisionKind getKind() {
+    return kind;
+  }
+
+  public void setKind(RevisionKind kind) {
+    this.kind = kind;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  public void setTitle(String title) {
+    this.title = title;
+  }
+
+  public byte[] getPayload() {
+    return payload;
+  }
+
+  public void setPayload(byte[] payload) {
+    this.payload = payload;
+  }
+
+  public int getBodyLength() {
+    return bodyLength;
+  }
+
+  public void setBodyLength(int bodyLength) {
+    this.bodyLength = bodyLength;
+  }
+
+  public UUID getCreatedBy() {
+    return createdBy;
+  }
+
+  public void setCreatedBy(UUID createdBy) {
+    this.createdBy = createdBy;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+}
@@ -18,6 +18,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
 @Table(name = "issues")
@@ -53,7 +54,9 @@ public class Issue {
   @Column(name = "priority", nullable = false, length = 32)
   private IssuePriority priority;
 
+  // Issue lists touch every page member's labels; load them for a whole page at once.
   @ElementCollection(fetch = FetchType.LAZY)
+  @BatchSize(size = 50)
   @CollectionTable(name = "issue_labels", joinColumns = @JoinColumn(name = "issue_id"))
   @Column(name = "label", length = 64)
   private List<String> labels = new ArrayList<>();
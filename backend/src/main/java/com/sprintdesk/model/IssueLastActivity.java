@@ -0,0 +1,31 @@
+package com.sprintdesk.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Latest comment time per issue, kept apart from the issues row so new comments do not rewrite
+ * or lock the issue itself.
+ */
+@Entity
+@Table(name = "issue_last_activity")
+public class IssueLastActivity {
+  @Id
+  @Column(name = "issue_id", nullable = false, updatable = false)
+  private UUID issueId;
+
+  @Column(name = "last_activity_at", nullable = false)
+  private Instant lastActivityAt;
+
+  public UUID getIssueId() {
+    return issueId;
+  }
+
+  public Instant getLastActivityAt() {
+    return lastActivityAt;
+  }
+}
@@ -33,6 +33,9 @@ public class Notification {
   @Column(name = "message", nullable = false, length = 512)
   private String message;
 
+  @Column(name = "digest_count", nullable = false)
+  private int digestCount = 1;
+
   @Column(name = "read_at")
   private Instant readAt;
 
@@ -88,6 +91,14 @@ public class Notification {
     this.message = message;
   }
 
+  public int getDigestCount() {
+    return digestCount;
+  }
+
+  public void setDigestCount(int digestCount) {
+    this.digestCount = digestCount;
+  }
+
   public Instant getReadAt() {
     return readAt;
   }
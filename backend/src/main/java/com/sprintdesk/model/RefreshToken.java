@@ -25,6 +25,9 @@ public class RefreshToken {
   @JoinColumn(name = "user_id", nullable = false)
   private User user;
 
+  @Column(name = "family_id", nullable = false, updatable = false)
+  private UUID familyId;
+
   @Column(name = "token_hash", nullable = false, unique = true, length = 255)
   private String tokenHash;
 
@@ -54,6 +57,14 @@ public class RefreshToken {
     this.user = user;
   }
 
+  public UUID getFamilyId() {
+    return familyId;
+  }
+
+  public void setFamilyId(UUID familyId) {
+    this.familyId = familyId;
+  }
+
   public String getTokenHash() {
     return tokenHash;
   }
@@ -0,0 +1,6 @@
+package com.sprintdesk.model;
+
+public enum RevisionKind {
+  SNAPSHOT,
+  DELTA
+}
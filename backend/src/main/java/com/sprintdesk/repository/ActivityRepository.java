@@ -1,13 +1,25 @@
 package com.sprintdesk.repository;
 
 import com.sprintdesk.model.Activity;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ActivityRepository extends JpaRepository<Activity, UUID> {
-  Page<Activity> findByWorkspaceId(UUID workspaceId, Pageable pageable);
+  List<Activity> findByWorkspaceId(UUID workspaceId, Pageable pageable);
 
-  void deleteByWorkspaceId(UUID workspaceId);
+  /**
+   * Bounded on created_at so Postgres only scans the monthly partitions inside the window.
+   */
+  List<Activity> findByWorkspaceIdAndCreatedAtGreaterThanEqual(
+      UUID workspaceId, Instant since, Pageable pageable);
+
+  @Modifying
+  @Query("delete from Activity a where a.workspaceId = :workspaceId")
+  void deleteByWorkspaceId(@Param("workspaceId") UUID workspaceId);
 }
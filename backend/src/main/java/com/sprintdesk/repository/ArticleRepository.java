@@ -1,24 +1,68 @@
 package com.sprintdesk.repository;
 
 import com.sprintdesk.model.Article;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ArticleRepository extends JpaRepository<Article, UUID> {
   List<Article> findByWorkspaceId(UUID workspaceId);
 
-  void deleteByWorkspaceId(UUID workspaceId);
+  /**
+   * List view without the body column.
+   */
+  List<SummaryView> findSummariesByWorkspaceIdOrderByUpdatedAtDesc(UUID workspaceId);
 
-  List<Article> findByWorkspaceIdAndLinkedIssueIdsContains(UUID workspaceId, UUID issueId);
+  @Modifying
+  @Query("delete from Article a where a.workspaceId = :workspaceId")
+  void deleteByWorkspaceId(@Param("workspaceId") UUID workspaceId);
+
+  /**
+   * Reverse link lookup served by the (issue_id, article_id) index on article_links.
+   */
+  @Query(value = "select article_id from article_links where issue_id = :issueId", nativeQuery = true)
+  List<UUID> findArticleIdsByLinkedIssueId(@Param("issueId") UUID issueId);
+
+  List<Article> findByWorkspaceIdAndIdIn(UUID workspaceId, Collection<UUID> ids);
+
+  /**
+   * List view of the given articles without the body column.
+   */
+  List<SummaryView> findSummariesByWorkspaceIdAndIdInOrderByUpdatedAtDesc(
+      UUID workspaceId, Collection<UUID> ids);
 
   Optional<Article> findByIdAndWorkspaceId(UUID id, UUID workspaceId);
 
+  /**
+   * Loads an article with a row lock held until the transaction ends, so concurrent edits of the
+   * same article take turns.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from Article a where a.id = :id and a.workspaceId = :workspaceId")
+  Optional<Article> findForUpdate(@Param("id") UUID id, @Param("workspaceId") UUID workspaceId);
+
   long countByWorkspaceIdAndCreatedBy(UUID workspaceId, UUID createdBy);
 
   long countByWorkspaceIdAndUpdatedBy(UUID workspaceId, UUID updatedBy);
 
   List<Article> findTop5ByWorkspaceIdAndUpdatedByOrderByUpdatedAtDesc(
       UUID workspaceId, UUID updatedBy);
+
+  interface SummaryView {
+    UUID getId();
+
+    String getKbId();
+
+    String getTitle();
+
+    Instant getUpdatedAt();
+  }
 }
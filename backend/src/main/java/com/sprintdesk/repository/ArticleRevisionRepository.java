@@ -0,0 +1,48 @@
+package com.sprintdesk.repository;
+
+import com.sprintdesk.model.ArticleRevision;
+import com.sprintdesk.model.RevisionKind;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArticleRevisionRepository extends JpaRepository<ArticleRevision, UUID> {
+  Optional<ArticleRevision> findTopByArticleIdOrderByVersionDesc(UUID articleId);
+
+  Optional<ArticleRevision> findTopByArticleIdAndKindAndVersionLessThanEqualOrderByVersionDesc(
+      UUID articleId, RevisionKind kind, int version);
+
+  /**
+   * Revisions needed to rebuild a version: the nearest snapshot and the deltas after it.
+   */
+  @Query(
+      "select r from ArticleRevision r where r.articleId = :articleId"
+          + " and r.version between :fromVersion and :toVersion order by r.version")
+  List<ArticleRevision> findChain(
+      @Param("articleId") UUID articleId,
+      @Param("fromVersion") int fromVersion,
+      @Param("toVersion") int toVersion);
+
+  /**
+   * Revision metadata without the payload column.
+   */
+  List<SummaryView> findSummariesByArticleIdOrderByVersionDesc(UUID articleId);
+
+  interface SummaryView {
+    int getVersion();
+
+    RevisionKind getKind();
+
+    String getTitle();
+
+    int getBodyLength();
+
+    UUID getCreatedBy();
+
+    Instant getCreatedAt();
+  }
+}
@@ -0,0 +1,73 @@
+package com.sprintdesk.repository;
+
+import com.sprintdesk.api.RankCursor;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ArticleSearchRepository {
+  /**
+   * Ranked full-text search over the generated articles.search_vector column. Snippets are only
+   * built for the rows on the returned page, since ts_headline re-parses the whole body.
+   */
+  private static final String HEADLINE_OPTIONS =
+      "StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10, FragmentDelimiter= … ";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public ArticleSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public List<Hit> search(UUID workspaceId, String query, RankCursor after, int limit) {
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("workspaceId", workspaceId)
+            .addValue("query", query)
+            .addValue("limit", limit)
+            .addValue("options", HEADLINE_OPTIONS);
+    String keyset = "";
+    if (after != null) {
+      keyset = " AND (r.rank < :rank OR (r.rank = :rank AND r.id < :afterId))";
+      params.addValue("rank", after.rank()).addValue("afterId", after.id());
+    }
+
+    // Body text is HTML-escaped before highlighting so the <mark> tags are the only markup.
+    String sql =
+        "WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query), "
+            + "r AS ("
+            + "  SELECT a.id, ts_rank_cd(a.search_vector, q.query) AS rank"
+            + "  FROM articles a, q"
+            + "  WHERE a.workspace_id = :workspaceId AND a.search_vector @@ q.query"
+            + ") "
+            + "SELECT a.id, a.kb_id, a.title, a.updated_at, page.rank, "
+            + "  ts_headline('english', "
+            + "    replace(replace(replace(coalesce(a.body, ''), '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), "
+            + "    q.query, :options) AS snippet "
+            + "FROM (SELECT r.id, r.rank FROM r WHERE true"
+            + keyset
+            + "  ORDER BY r.rank DESC, r.id DESC LIMIT :limit) page "
+            + "JOIN articles a ON a.id = page.id "
+            + "CROSS JOIN q "
+            + "ORDER BY page.rank DESC, page.id DESC";
+
+    return jdbcTemplate.query(
+        sql,
+        params,
+        (rs, rowNum) ->
+            new Hit(
+                rs.getObject("id", UUID.class),
+                rs.getString("kb_id"),
+                rs.getString("title"),
+                rs.getString("snippet"),
+                rs.getFloat("rank"),
+                rs.getTimestamp("updated_at").toInstant()));
+  }
+
+  public record Hit(
+      UUID id, String kbId, String title, String snippet, float rank, Instant updatedAt) {}
+}
@@ -1,12 +1,41 @@
 package com.sprintdesk.repository;
 
 import com.sprintdesk.model.Comment;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
-  List<Comment> findByIssueIdOrderByCreatedAtAsc(UUID issueId);
+  List<Comment> findByIssueIdOrderByCreatedAtDescIdDesc(UUID issueId, Pageable pageable);
 
-  void deleteByIssueIdIn(List<UUID> issueIds);
+  @Query(
+      "select c from Comment c where c.issueId = :issueId"
+          + " and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))"
+          + " order by c.createdAt desc, c.id desc")
+  List<Comment> findPageBefore(
+      @Param("issueId") UUID issueId,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  @Query(
+      "select c from Comment c where c.issueId = :issueId"
+          + " and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))"
+          + " order by c.createdAt asc, c.id asc")
+  List<Comment> findPageAfter(
+      @Param("issueId") UUID issueId,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  @Modifying
+  @Query(
+      "delete from Comment c where c.issueId in"
+          + " (select i.id from Issue i where i.workspaceId = :workspaceId)")
+  void deleteByIssueWorkspaceId(@Param("workspaceId") UUID workspaceId);
 }
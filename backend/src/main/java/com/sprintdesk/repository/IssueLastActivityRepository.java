@@ -0,0 +1,29 @@
+package com.sprintdesk.repository;
+
+import com.sprintdesk.model.IssueLastActivity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface IssueLastActivityRepository extends JpaRepository<IssueLastActivity, UUID> {
+  List<IssueLastActivity> findByIssueIdIn(Collection<UUID> issueIds);
+
+  /**
+   * Single-row upsert that never moves the timestamp backwards.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO issue_last_activity (issue_id, last_activity_at) VALUES (:issueId, :at)"
+              + " ON CONFLICT (issue_id) DO UPDATE SET last_activity_at ="
+              + " GREATEST(issue_last_activity.last_activity_at, EXCLUDED.last_activity_at)",
+      nativeQuery = true)
+  int touch(@Param("issueId") UUID issueId, @Param("at") Instant at);
+}
@@ -1,6 +1,7 @@
 package com.sprintdesk.repository;
 
 import com.sprintdesk.model.Issue;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -8,17 +9,24 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface IssueRepository extends JpaRepository<Issue, UUID>, JpaSpecificationExecutor<Issue> {
   Optional<Issue> findByIdAndWorkspaceId(UUID id, UUID workspaceId);
 
+  @Query("select i.id from Issue i where i.workspaceId = :workspaceId and i.id in :ids")
+  List<UUID> findIdsByWorkspaceIdAndIdIn(
+      @Param("workspaceId") UUID workspaceId, @Param("ids") Collection<UUID> ids);
+
   Optional<Issue> findByWorkspaceIdAndTicketId(UUID workspaceId, String ticketId);
 
   Page<Issue> findByWorkspaceId(UUID workspaceId, Pageable pageable);
 
-  List<Issue> findByWorkspaceId(UUID workspaceId);
-
-  void deleteByWorkspaceId(UUID workspaceId);
+  @Modifying
+  @Query("delete from Issue i where i.workspaceId = :workspaceId")
+  void deleteByWorkspaceId(@Param("workspaceId") UUID workspaceId);
 
   long countByWorkspaceIdAndCreatedBy(UUID workspaceId, UUID createdBy);
 
@@ -0,0 +1,57 @@
+package com.sprintdesk.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class NotificationDigestRepository {
+  /**
+   * Folds a new event into each user's newest unread notification for the same issue and type in
+   * one statement, and returns the counts the database ended up with. No entities are loaded, so
+   * nothing is left in the persistence context for a later flush to write back, and a digest that
+   * was read (or bumped by someone else) in the meantime is never overwritten.
+   */
+  private static final String MERGE =
+      "WITH open AS ("
+          + "  SELECT DISTINCT ON (user_id) id FROM notifications"
+          + "  WHERE issue_id = :issueId AND type = :type AND user_id IN (:userIds)"
+          + "    AND read_at IS NULL AND created_at >= :since"
+          + "  ORDER BY user_id, created_at DESC"
+          + ") "
+          + "UPDATE notifications n SET digest_count = n.digest_count + 1, message = :message"
+          + " FROM open WHERE n.id = open.id AND n.read_at IS NULL"
+          + " RETURNING n.id, n.user_id, n.digest_count";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public NotificationDigestRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public List<MergedDigest> merge(
+      Collection<UUID> userIds, UUID issueId, String type, String message, Instant since) {
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("userIds", userIds)
+            .addValue("issueId", issueId)
+            .addValue("type", type)
+            .addValue("message", message)
+            .addValue("since", Timestamp.from(since));
+    return jdbcTemplate.query(
+        MERGE,
+        params,
+        (rs, rowNum) ->
+            new MergedDigest(
+                rs.getObject("id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                rs.getInt("digest_count")));
+  }
+
+  public record MergedDigest(UUID id, UUID userId, int digestCount) {}
+}
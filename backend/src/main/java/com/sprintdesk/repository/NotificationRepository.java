@@ -2,19 +2,73 @@ package com.sprintdesk.repository;
 
 import com.sprintdesk.model.Notification;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
-  List<Notification> findByUserIdOrderByCreatedAtDesc(UUID userId);
+  List<Notification> findByUserIdOrderByCreatedAtDescIdDesc(UUID userId, Pageable pageable);
 
-  List<Notification> findByUserIdAndReadAtIsNullOrderByCreatedAtDesc(UUID userId);
+  List<Notification> findByUserIdAndReadAtIsNullOrderByCreatedAtDescIdDesc(
+      UUID userId, Pageable pageable);
+
+  @Query(
+      "select n from Notification n where n.userId = :userId"
+          + " and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id))"
+          + " order by n.createdAt desc, n.id desc")
+  List<Notification> findPageBefore(
+      @Param("userId") UUID userId,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  @Query(
+      "select n from Notification n where n.userId = :userId and n.readAt is null"
+          + " and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id))"
+          + " order by n.createdAt desc, n.id desc")
+  List<Notification> findUnreadPageBefore(
+      @Param("userId") UUID userId,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") UUID id,
+      Pageable pageable);
 
   Optional<Notification> findByIdAndUserId(UUID id, UUID userId);
 
+  @Query(
+      "select distinct n.userId from Notification n where n.issueId = :issueId and n.type = :type"
+          + " and n.userId in :userIds and n.createdAt >= :since")
+  List<UUID> findRecentRecipients(
+      @Param("issueId") UUID issueId,
+      @Param("type") String type,
+      @Param("userIds") Collection<UUID> userIds,
+      @Param("since") Instant since);
+
   long countByUserIdAndReadAtIsNull(UUID userId);
 
-  void deleteByUserIdIn(List<UUID> userIds);
+  /**
+   * Marks one notification read unless it already is, so concurrent calls count it once.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "update Notification n set n.readAt = :readAt"
+          + " where n.id = :id and n.userId = :userId and n.readAt is null")
+  int markRead(
+      @Param("id") UUID id, @Param("userId") UUID userId, @Param("readAt") Instant readAt);
+
+  @Transactional
+  @Modifying
+  @Query("update Notification n set n.readAt = :readAt where n.userId = :userId and n.readAt is null")
+  int markAllRead(@Param("userId") UUID userId, @Param("readAt") Instant readAt);
+
+  @Modifying
+  @Query("delete from Notification n where n.userId in :userIds")
+  void deleteByUserIdIn(@Param("userIds") List<UUID> userIds);
 }
@@ -1,12 +1,50 @@
 package com.sprintdesk.repository;
 
 import com.sprintdesk.model.OtpCode;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface OtpCodeRepository extends JpaRepository<OtpCode, UUID> {
-  Optional<OtpCode> findTopByEmailOrderByCreatedAtDesc(String email);
+  Optional<OtpCode> findByEmail(String email);
 
-  void deleteByEmail(String email);
+  /**
+   * One live code per email: a new request replaces the previous code in a single statement.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO otp_codes (id, email, code_hash, expires_at, consumed_at, created_at)"
+              + " VALUES (:id, :email, :codeHash, :expiresAt, NULL, :now)"
+              + " ON CONFLICT (email) DO UPDATE SET code_hash = EXCLUDED.code_hash,"
+              + " expires_at = EXCLUDED.expires_at, consumed_at = NULL,"
+              + " created_at = EXCLUDED.created_at",
+      nativeQuery = true)
+  int upsert(
+      @Param("id") UUID id,
+      @Param("email") String email,
+      @Param("codeHash") String codeHash,
+      @Param("expiresAt") Instant expiresAt,
+      @Param("now") Instant now);
+
+  @Transactional
+  @Modifying
+  @Query(
+      "update OtpCode o set o.consumedAt = :now where o.email = :email and o.codeHash = :codeHash"
+          + " and o.consumedAt is null and o.expiresAt > :now")
+  int consume(
+      @Param("email") String email,
+      @Param("codeHash") String codeHash,
+      @Param("now") Instant now);
+
+  @Transactional
+  @Modifying
+  @Query("delete from OtpCode o where o.expiresAt < :now")
+  int deleteExpired(@Param("now") Instant now);
 }
@@ -1,12 +1,31 @@
 package com.sprintdesk.repository;
 
 import com.sprintdesk.model.RefreshToken;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
-  @EntityGraph(attributePaths = "user")
-  Optional<RefreshToken> findByTokenHash(String tokenHash);
-}
\ No newline at end of file
+  @Query(
+      "select t.familyId as familyId, t.revokedAt as revokedAt from RefreshToken t"
+          + " where t.tokenHash = :tokenHash")
+  Optional<TokenStateView> findStateByTokenHash(@Param("tokenHash") String tokenHash);
+
+  @Transactional
+  @Modifying
+  @Query(
+      "update RefreshToken t set t.revokedAt = :now"
+          + " where t.familyId = :familyId and t.revokedAt is null")
+  int revokeFamily(@Param("familyId") UUID familyId, @Param("now") Instant now);
+
+  interface TokenStateView {
+    UUID getFamilyId();
+
+    Instant getRevokedAt();
+  }
+}
@@ -0,0 +1,64 @@
+package com.sprintdesk.repository;
+
+import com.sprintdesk.model.Role;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RefreshTokenRotationRepository {
+  /**
+   * Rotates a refresh token in one statement: revoke the presented token if it is still active,
+   * insert its successor in the same family, and return only the user columns needed for the new
+   * access token. The User entity, with its avatar and contact text, is never loaded.
+   */
+  private static final String ROTATE =
+      "WITH rotated AS ("
+          + "  UPDATE refresh_tokens SET revoked_at = :now"
+          + "  WHERE token_hash = :tokenHash AND revoked_at IS NULL AND expires_at > :now"
+          + "  RETURNING user_id, family_id"
+          + "), issued AS ("
+          + "  INSERT INTO refresh_tokens (id, user_id, family_id, token_hash, expires_at, created_at)"
+          + "  SELECT :id, user_id, family_id, :newTokenHash, :expiresAt, :now FROM rotated"
+          + "  RETURNING user_id"
+          + ") "
+          + "SELECT u.id, u.email, u.name, u.role FROM issued i JOIN users u ON u.id = i.user_id";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public RefreshTokenRotationRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Empty when the presented token is unknown, expired or already revoked.
+   */
+  public Optional<TokenOwner> rotate(
+      String tokenHash, String newTokenHash, Instant expiresAt, Instant now) {
+    MapSqlParameterSource params =
+        new MapSqlParameterSource()
+            .addValue("tokenHash", tokenHash)
+            .addValue("newTokenHash", newTokenHash)
+            .addValue("id", UUID.randomUUID())
+            .addValue("expiresAt", Timestamp.from(expiresAt))
+            .addValue("now", Timestamp.from(now));
+    List<TokenOwner> owners =
+        jdbcTemplate.query(
+            ROTATE,
+            params,
+            (rs, rowNum) ->
+                new TokenOwner(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("email"),
+                    rs.getString("name"),
+                    Role.valueOf(rs.getString("role"))));
+    return owners.stream().findFirst();
+  }
+
+  public record TokenOwner(UUID id, String email, String name, Role role) {}
+}
@@ -4,7 +4,6 @@ import com.sprintdesk.model.User;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -12,5 +11,4 @@ public interface UserRepository extends JpaRepository<User, UUID> {
   Optional<User> findByEmailIgnoreCase(String email);
   boolean existsByEmailIgnoreCase(String email);
   List<User> findByIdIn(Collection<UUID> ids);
-  List<User> findByEmailIgnoreCaseIn(Set<String> emails);
 }
@@ -5,10 +5,15 @@ import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface WorkspaceInviteRepository extends JpaRepository<WorkspaceInvite, UUID> {
   @EntityGraph(attributePaths = {"workspace"})
   Optional<WorkspaceInvite> findByCode(String code);
 
-  void deleteByWorkspace_Id(UUID workspaceId);
+  @Modifying
+  @Query("delete from WorkspaceInvite i where i.workspace.id = :workspaceId")
+  void deleteByWorkspace_Id(@Param("workspaceId") UUID workspaceId);
 }
@@ -1,11 +1,15 @@
 package com.sprintdesk.repository;
 
 import com.sprintdesk.model.WorkspaceMember;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember, UUID> {
   @EntityGraph(attributePaths = {"workspace"})
@@ -16,5 +20,26 @@ public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember
 
   Optional<WorkspaceMember> findByWorkspaceIdAndUserId(UUID workspaceId, UUID userId);
 
-  void deleteByWorkspace_Id(UUID workspaceId);
+  @Query(
+      "select m.user.id from WorkspaceMember m"
+          + " where m.workspace.id = :workspaceId and m.user.id in :userIds")
+  List<UUID> findUserIdsByWorkspaceIdAndUserIdIn(
+      @Param("workspaceId") UUID workspaceId, @Param("userIds") Collection<UUID> userIds);
+
+  @Query(
+      "select m.user.id as userId, m.user.email as email, m.user.name as name"
+          + " from WorkspaceMember m where m.workspace.id = :workspaceId")
+  List<MemberHandleView> findHandlesByWorkspaceId(@Param("workspaceId") UUID workspaceId);
+
+  @Modifying
+  @Query("delete from WorkspaceMember m where m.workspace.id = :workspaceId")
+  void deleteByWorkspace_Id(@Param("workspaceId") UUID workspaceId);
+
+  interface MemberHandleView {
+    UUID getUserId();
+
+    String getEmail();
+
+    String getName();
+  }
 }
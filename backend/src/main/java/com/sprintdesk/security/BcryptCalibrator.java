@@ -0,0 +1,50 @@
+package com.sprintdesk.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks a BCrypt cost for this machine. One hash is timed at the minimum cost, then the cost is
+ * raised while the projected time (doubling per step) stays within the target, and the chosen
+ * cost is measured once more so the reported figure is real.
+ */
+public final class BcryptCalibrator {
+  private static final String SAMPLE = "calibration-sample-password";
+
+  private BcryptCalibrator() {}
+
+  public static Calibration calibrate(int minStrength, int maxStrength, long targetMs) {
+    int min = clamp(minStrength);
+    int max = Math.max(min, clamp(maxStrength));
+
+    // The first hash pays for class loading and JIT warm-up; time the second.
+    new BCryptPasswordEncoder(min).encode(SAMPLE);
+    double baseMs = measure(min);
+
+    int strength = min;
+    double projectedMs = baseMs;
+    while (strength < max && projectedMs * 2 <= targetMs) {
+      strength++;
+      projectedMs *= 2;
+    }
+    double measuredMs = strength == min ? baseMs : measure(strength);
+    return new Calibration(strength, measuredMs);
+  }
+
+  public static Calibration fixed(int strength) {
+    int cost = clamp(strength);
+    return new Calibration(cost, measure(cost));
+  }
+
+  private static double measure(int strength) {
+    BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+    long start = System.nanoTime();
+    encoder.encode(SAMPLE);
+    return (System.nanoTime() - start) / 1_000_000.0;
+  }
+
+  private static int clamp(int strength) {
+    return Math.min(Math.max(strength, 4), 31);
+  }
+
+  public record Calibration(int strength, double hashMs) {}
+}
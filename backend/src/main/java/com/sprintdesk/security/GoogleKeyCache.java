@@ -0,0 +1,126 @@
+package com.sprintdesk.security;
+
+import com.sprintdesk.metrics.CacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class GoogleKeyCache {
+  /**
+   * Google signing keys, cached for as long as the key source allows. A background check renews
+   * the set shortly before it goes stale so logins rarely wait on a fetch. An unknown key id
+   * triggers an early refresh (Google rotates keys), at most once per minimum interval.
+   */
+  private static final Logger log = LoggerFactory.getLogger(GoogleKeyCache.class);
+  private static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+  private static final Duration MIN_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+  private final GoogleKeySource keySource;
+  private final SecurityProperties properties;
+  private volatile Map<String, PublicKey> keys = Map.of();
+  private volatile Instant expiresAt = Instant.EPOCH;
+  private volatile Instant lastAttempt = Instant.EPOCH;
+  private boolean lastFailed;
+  private final CacheMetrics metrics;
+
+  public GoogleKeyCache(
+      GoogleKeySource keySource, SecurityProperties properties, MeterRegistry meterRegistry) {
+    this.keySource = keySource;
+    this.properties = properties;
+    this.metrics = CacheMetrics.register(meterRegistry, "google_signing_keys");
+  }
+
+  /**
+   * The key for {@code kid}, or empty when it is unknown even after a refresh. Throws when no key
+   * set could be loaded at all.
+   */
+  public Optional<PublicKey> key(String kid) {
+    if (kid == null) {
+      return Optional.empty();
+    }
+    Instant now = Instant.now();
+    PublicKey cached = now.isAfter(expiresAt) ? null : keys.get(kid);
+    if (cached != null) {
+      metrics.hit();
+      return Optional.of(cached);
+    }
+    metrics.miss();
+    if (now.isAfter(expiresAt)) {
+      refresh(now, true);
+    }
+    PublicKey key = keys.get(kid);
+    if (key == null && lastAttempt.plus(MIN_REFRESH_INTERVAL).isBefore(now)) {
+      refreshForUnknownKey(kid, now);
+      key = keys.get(kid);
+    }
+    return Optional.ofNullable(key);
+  }
+
+  @Scheduled(fixedDelayString = "${app.security.google-jwks-check-ms:60000}")
+  public void refreshIfStale() {
+    if (!properties.isGoogleEnabled()) {
+      return;
+    }
+    Instant now = Instant.now();
+    if (now.plus(REFRESH_AHEAD).isAfter(expiresAt)) {
+      try {
+        refresh(now, false);
+      } catch (KeysUnavailableException ex) {
+        // Logged in refresh; the next check or login retries.
+      }
+    }
+  }
+
+  /**
+   * The unlocked interval check in {@link #key} lets every concurrent login with the same unknown
+   * kid through, so it is repeated here: only the first one fetches, the rest see its result.
+   */
+  private synchronized void refreshForUnknownKey(String kid, Instant now) {
+    if (keys.containsKey(kid) || !lastAttempt.plus(MIN_REFRESH_INTERVAL).isBefore(now)) {
+      return;
+    }
+    refresh(now, false);
+  }
+
+  private synchronized void refresh(Instant now, boolean onlyIfExpired) {
+    if (onlyIfExpired && !now.isAfter(expiresAt)) {
+      return;
+    }
+    if (keys.isEmpty() && lastFailed && lastAttempt.plus(MIN_REFRESH_INTERVAL).isAfter(now)) {
+      throw new KeysUnavailableException(null);
+    }
+    lastAttempt = now;
+    try {
+      GoogleKeySource.KeySet fetched = keySource.fetch();
+      if (!fetched.keys().isEmpty()) {
+        keys = Map.copyOf(fetched.keys());
+        expiresAt = now.plus(fetched.maxAge());
+      }
+      lastFailed = false;
+    } catch (RuntimeException ex) {
+      log.warn("Unable to refresh Google signing keys", ex);
+      lastFailed = true;
+      if (keys.isEmpty()) {
+        throw new KeysUnavailableException(ex);
+      }
+      // Keep serving the previous keys, which are far more likely valid than not, and retry later.
+      expiresAt = now.plus(MIN_REFRESH_INTERVAL);
+    }
+  }
+
+  public static class KeysUnavailableException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    KeysUnavailableException(Throwable cause) {
+      super("Google signing keys unavailable", cause);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.sprintdesk.security;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Where Google's ID token signing keys come from. The HTTP implementation reads the public JWKS
+ * endpoint; tests can register a local stand-in instead.
+ */
+public interface GoogleKeySource {
+  KeySet fetch();
+
+  /**
+   * Keys by {@code kid}, and how long the source says they may be cached.
+   */
+  record KeySet(Map<String, PublicKey> keys, Duration maxAge) {}
+}
@@ -0,0 +1,80 @@
+package com.sprintdesk.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+public class HttpGoogleKeySource implements GoogleKeySource {
+  /**
+   * Reads RSA signing keys from Google's JWKS endpoint and honors its Cache-Control max-age.
+   */
+  private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+  private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+  private final SecurityProperties properties;
+  private final ObjectMapper objectMapper;
+  private final RestTemplate restTemplate;
+
+  public HttpGoogleKeySource(SecurityProperties properties, ObjectMapper objectMapper) {
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+    requestFactory.setConnectTimeout((int) properties.getGoogleHttpTimeoutMs());
+    requestFactory.setReadTimeout((int) properties.getGoogleHttpTimeoutMs());
+    this.restTemplate = new RestTemplate(requestFactory);
+  }
+
+  @Override
+  public KeySet fetch() {
+    ResponseEntity<String> response =
+        restTemplate.getForEntity(properties.getGoogleJwksUrl(), String.class);
+    Map<String, PublicKey> keys = new HashMap<>();
+    try {
+      JsonNode root = objectMapper.readTree(response.getBody());
+      KeyFactory factory = KeyFactory.getInstance("RSA");
+      for (JsonNode jwk : root.path("keys")) {
+        if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) {
+          continue;
+        }
+        RSAPublicKeySpec spec =
+            new RSAPublicKeySpec(unsigned(jwk.path("n").asText()), unsigned(jwk.path("e").asText()));
+        keys.put(jwk.path("kid").asText(), factory.generatePublic(spec));
+      }
+    } catch (GeneralSecurityException | IllegalArgumentException | IOException ex) {
+      throw new IllegalStateException("Unreadable Google JWKS response", ex);
+    }
+    return new KeySet(keys, maxAge(response.getHeaders()));
+  }
+
+  private static BigInteger unsigned(String base64Url) {
+    return new BigInteger(1, Base64.getUrlDecoder().decode(base64Url));
+  }
+
+  private Duration maxAge(HttpHeaders headers) {
+    String cacheControl = headers.getCacheControl();
+    if (cacheControl != null) {
+      Matcher matcher = MAX_AGE.matcher(cacheControl);
+      if (matcher.find()) {
+        return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+      }
+    }
+    return DEFAULT_MAX_AGE;
+  }
+}
@@ -1,5 +1,6 @@
 package com.sprintdesk.security;
 
+import com.sprintdesk.model.Role;
 import com.sprintdesk.model.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -25,11 +26,15 @@ public class JwtService {
   }
 
   public String generateAccessToken(User user) {
+    return generateAccessToken(user.getId(), user.getRole());
+  }
+
+  public String generateAccessToken(UUID userId, Role role) {
     Instant now = Instant.now();
     Instant expiresAt = now.plus(Duration.ofMinutes(properties.getAccessTokenMinutes()));
     return Jwts.builder()
-        .setSubject(user.getId().toString())
-        .claim("role", user.getRole().name())
+        .setSubject(userId.toString())
+        .claim("role", role.name())
         .setIssuedAt(Date.from(now))
         .setExpiration(Date.from(expiresAt))
         .signWith(signingKey, SignatureAlgorithm.HS256)
@@ -0,0 +1,202 @@
+package com.sprintdesk.security;
+
+import com.sprintdesk.config.PasswordHashingProperties;
+import com.sprintdesk.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class PasswordHashingService {
+  /**
+   * Runs password hashing on a small bounded pool instead of request threads, so a login flood
+   * queues here and gets 429s rather than pinning every core. Logins and registrations are also
+   * capped per client IP and per email while they wait.
+   */
+  private static final String BUSY = "Too many sign-in attempts, please retry shortly";
+
+  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingProperties properties;
+  private final ThreadPoolExecutor executor;
+  private final Map<String, Integer> inFlight = new ConcurrentHashMap<>();
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter rejectedQueue;
+  private final Counter rejectedIp;
+  private final Counter rejectedEmail;
+  private final Counter rehashed;
+
+  public PasswordHashingService(
+      PasswordEncoder passwordEncoder,
+      PasswordHashingProperties properties,
+      MeterRegistry meterRegistry) {
+    this.passwordEncoder = passwordEncoder;
+    this.properties = properties;
+
+    int threads = properties.getThreads() > 0
+        ? properties.getThreads()
+        : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(properties.getQueueCapacity(), 1)),
+            runnable -> {
+              Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+    this.encodeTimer =
+        Timer.builder("auth.password.hash").tag("operation", "encode").register(meterRegistry);
+    this.matchesTimer =
+        Timer.builder("auth.password.hash").tag("operation", "matches").register(meterRegistry);
+    this.rejectedQueue = rejectedCounter(meterRegistry, "queue");
+    this.rejectedIp = rejectedCounter(meterRegistry, "ip");
+    this.rejectedEmail = rejectedCounter(meterRegistry, "email");
+    this.rehashed = meterRegistry.counter("auth.password.rehashed");
+    Gauge.builder("auth.password.queue.depth", executor, pool -> pool.getQueue().size())
+        .register(meterRegistry);
+    Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+  }
+
+  public String encode(String rawPassword) {
+    return run(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+  }
+
+  public boolean matches(String rawPassword, String encodedPassword) {
+    Boolean matched =
+        run(
+            () ->
+                matchesTimer.recordCallable(
+                    () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    return Boolean.TRUE.equals(matched);
+  }
+
+  /**
+   * Re-encode a password whose stored hash is legacy or below the current cost. Returns null when
+   * the stored hash is already current.
+   */
+  public String upgrade(String rawPassword, String encodedPassword) {
+    if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+      return null;
+    }
+    String upgraded = encode(rawPassword);
+    rehashed.increment();
+    return upgraded;
+  }
+
+  /**
+   * Reserve a hashing slot for one client and account; close it once the hash is done.
+   */
+  public Admission admit(String clientIp, String email) {
+    String ipKey = clientIp == null || clientIp.isBlank() ? null : "ip:" + clientIp;
+    String emailKey =
+        email == null || email.isBlank() ? null : "email:" + email.toLowerCase(Locale.ROOT);
+    if (!acquire(ipKey, properties.getMaxPerIp())) {
+      rejectedIp.increment();
+      throw busy();
+    }
+    if (!acquire(emailKey, properties.getMaxPerEmail())) {
+      release(ipKey);
+      rejectedEmail.increment();
+      throw busy();
+    }
+    return () -> {
+      release(emailKey);
+      release(ipKey);
+    };
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private <T> T run(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException ex) {
+      rejectedQueue.increment();
+      throw busy();
+    }
+    try {
+      return future.get(properties.getWaitTimeoutMs(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException ex) {
+      future.cancel(true);
+      rejectedQueue.increment();
+      throw busy();
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Request interrupted");
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException("Password hashing failed", ex.getCause());
+    }
+  }
+
+  private boolean acquire(String key, int limit) {
+    if (key == null || limit <= 0) {
+      return true;
+    }
+    boolean[] admitted = {false};
+    inFlight.compute(
+        key,
+        (k, count) -> {
+          int current = count == null ? 0 : count;
+          if (current >= limit) {
+            return count;
+          }
+          admitted[0] = true;
+          return current + 1;
+        });
+    return admitted[0];
+  }
+
+  private void release(String key) {
+    if (key == null) {
+      return;
+    }
+    inFlight.computeIfPresent(key, (k, count) -> count <= 1 ? null : count - 1);
+  }
+
+  private TooManyRequestsException busy() {
+    return new TooManyRequestsException(BUSY, properties.getRetryAfterSeconds());
+  }
+
+  private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+    return Counter.builder("auth.password.rejected").tag("reason", reason).register(meterRegistry);
+  }
+
+  public interface Admission extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
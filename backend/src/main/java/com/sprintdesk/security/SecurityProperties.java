@@ -7,6 +7,9 @@ public class SecurityProperties {
   private String jwtSecret;
   private long accessTokenMinutes = 15;
   private long refreshTokenDays = 7;
+  private long refreshReuseGraceSeconds = 10;
+  private int refreshPurgeBatchSize = 1000;
+  private int refreshPurgeMaxBatches = 100;
   private String refreshCookieName = "sprintdesk_refresh";
   private boolean refreshCookieSecure = false;
   private String refreshCookieSameSite = "Lax";
@@ -14,9 +17,18 @@ public class SecurityProperties {
   private String refreshCookieDomain;
   private boolean googleEnabled = false;
   private String googleClientId;
+  private String googleJwksUrl = "https://www.googleapis.com/oauth2/v3/certs";
+  private String googleTokeninfoUrl = "https://oauth2.googleapis.com/tokeninfo";
+  private long googleHttpTimeoutMs = 2000;
+  private int googleBreakerFailures = 5;
+  private long googleBreakerOpenSeconds = 30;
   private int otpMinutes = 10;
   private int otpCodeLength = 6;
   private boolean otpReturnCode = false;
+  private String otpStore = "database";
+  private int otpMaxAttempts = 5;
+  private int otpAttemptWindowMinutes = 15;
+  private long otpSweepIntervalMs = 10000;
 
   public String getJwtSecret() {
     return jwtSecret;
@@ -42,6 +54,30 @@ public class SecurityProperties {
     this.refreshTokenDays = refreshTokenDays;
   }
 
+  public long getRefreshReuseGraceSeconds() {
+    return refreshReuseGraceSeconds;
+  }
+
+  public void setRefreshReuseGraceSeconds(long refreshReuseGraceSeconds) {
+    this.refreshReuseGraceSeconds = refreshReuseGraceSeconds;
+  }
+
+  public int getRefreshPurgeBatchSize() {
+    return refreshPurgeBatchSize;
+  }
+
+  public void setRefreshPurgeBatchSize(int refreshPurgeBatchSize) {
+    this.refreshPurgeBatchSize = refreshPurgeBatchSize;
+  }
+
+  public int getRefreshPurgeMaxBatches() {
+    return refreshPurgeMaxBatches;
+  }
+
+  public void setRefreshPurgeMaxBatches(int refreshPurgeMaxBatches) {
+    this.refreshPurgeMaxBatches = refreshPurgeMaxBatches;
+  }
+
   public String getRefreshCookieName() {
     return refreshCookieName;
   }
@@ -98,6 +134,46 @@ public class SecurityProperties {
     this.googleClientId = googleClientId;
   }
 
+  public String getGoogleJwksUrl() {
+    return googleJwksUrl;
+  }
+
+  public void setGoogleJwksUrl(String googleJwksUrl) {
+    this.googleJwksUrl = googleJwksUrl;
+  }
+
+  public String getGoogleTokeninfoUrl() {
+    return googleTokeninfoUrl;
+  }
+
+  public void setGoogleTokeninfoUrl(String googleTokeninfoUrl) {
+    this.googleTokeninfoUrl = googleTokeninfoUrl;
+  }
+
+  public long getGoogleHttpTimeoutMs() {
+    return googleHttpTimeoutMs;
+  }
+
+  public void setGoogleHttpTimeoutMs(long googleHttpTimeoutMs) {
+    this.googleHttpTimeoutMs = googleHttpTimeoutMs;
+  }
+
+  public int getGoogleBreakerFailures() {
+    return googleBreakerFailures;
+  }
+
+  public void setGoogleBreakerFailures(int googleBreakerFailures) {
+    this.googleBreakerFailures = googleBreakerFailures;
+  }
+
+  public long getGoogleBreakerOpenSeconds() {
+    return googleBreakerOpenSeconds;
+  }
+
+  public void setGoogleBreakerOpenSeconds(long googleBreakerOpenSeconds) {
+    this.googleBreakerOpenSeconds = googleBreakerOpenSeconds;
+  }
+
   public int getOtpMinutes() {
     return otpMinutes;
   }
@@ -121,4 +197,36 @@ public class SecurityProperties {
   public void setOtpReturnCode(boolean otpReturnCode) {
     this.otpReturnCode = otpReturnCode;
   }
+
+  public String getOtpStore() {
+    return otpStore;
+  }
+
+  public void setOtpStore(String otpStore) {
+    this.otpStore = otpStore;
+  }
+
+  public int getOtpMaxAttempts() {
+    return otpMaxAttempts;
+  }
+
+  public void setOtpMaxAttempts(int otpMaxAttempts) {
+    this.otpMaxAttempts = otpMaxAttempts;
+  }
+
+  public int getOtpAttemptWindowMinutes() {
+    return otpAttemptWindowMinutes;
+  }
+
+  public void setOtpAttemptWindowMinutes(int otpAttemptWindowMinutes) {
+    this.otpAttemptWindowMinutes = otpAttemptWindowMinutes;
+  }
+
+  public long getOtpSweepIntervalMs() {
+    return otpSweepIntervalMs;
+  }
+
+  public void setOtpSweepIntervalMs(long otpSweepIntervalMs) {
+    this.otpSweepIntervalMs = otpSweepIntervalMs;
+  }
 }
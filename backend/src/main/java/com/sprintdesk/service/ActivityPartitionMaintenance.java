@@ -0,0 +1,218 @@
+package com.sprintdesk.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintdesk.config.ActivityProperties;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ActivityPartitionMaintenance {
+  /**
+   * Keeps monthly activity partitions ahead of time and archives expired ones. Partition bounds
+   * are written as explicit UTC instants so they line up with the UTC month names whatever the
+   * session time zone is. Without archiving, expired partitions are dropped outright.
+   */
+  private static final Logger log = LoggerFactory.getLogger(ActivityPartitionMaintenance.class);
+  private static final Pattern PARTITION_NAME = Pattern.compile("activities_p\\d{6}");
+  private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+  private static final int EXPORT_FETCH_SIZE = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final JdbcTemplate exportTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ObjectMapper objectMapper;
+  private final ActivityProperties properties;
+
+  public ActivityPartitionMaintenance(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ObjectMapper objectMapper,
+      ActivityProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    // pgjdbc only streams a result set with a fetch size inside a transaction; otherwise it reads
+    // the whole partition into memory before the first row is handed over.
+    this.exportTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+    this.exportTemplate.setFetchSize(EXPORT_FETCH_SIZE);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onStartup() {
+    runMaintenance();
+  }
+
+  @Scheduled(cron = "${app.activities.maintenance-cron:0 15 3 * * *}")
+  public void runMaintenance() {
+    try {
+      ensureFuturePartitions();
+      applyRetention();
+    } catch (DataAccessException ex) {
+      log.warn("Activity partition maintenance failed", ex);
+    }
+  }
+
+  void ensureFuturePartitions() {
+    YearMonth current = YearMonth.now(ZoneOffset.UTC);
+    for (int i = 0; i <= Math.max(properties.getPartitionsAhead(), 0); i++) {
+      YearMonth month = current.plusMonths(i);
+      String name = partitionName(month);
+      try {
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS "
+                + name
+                + " PARTITION OF activities FOR VALUES FROM ('"
+                + utcBound(month)
+                + "') TO ('"
+                + utcBound(month.plusMonths(1))
+                + "')");
+      } catch (DataAccessException ex) {
+        // Rows for this month already landed in the default partition; leave them there.
+        log.warn("Unable to create activity partition {}", name, ex);
+      }
+    }
+  }
+
+  void applyRetention() {
+    if (properties.getRetentionMonths() <= 0) {
+      return;
+    }
+    YearMonth oldestKept = YearMonth.now(ZoneOffset.UTC).minusMonths(properties.getRetentionMonths());
+    for (String name : listPartitions()) {
+      YearMonth month = YearMonth.parse(name.substring("activities_p".length()), SUFFIX);
+      if (!month.isBefore(oldestKept)) {
+        continue;
+      }
+      jdbcTemplate.execute("ALTER TABLE activities DETACH PARTITION " + name);
+      log.info("Detached activity partition {}", name);
+    }
+    dropDetachedPartitions();
+  }
+
+  /**
+   * Drop every detached monthly table, exporting it to gzipped NDJSON first when archiving is
+   * enabled. A failed export leaves the table in place so the next run can retry.
+   */
+  private void dropDetachedPartitions() {
+    List<String> detached =
+        jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_class c "
+                + "WHERE c.relkind = 'r' AND c.relname ~ '^activities_p[0-9]{6}$' "
+                + "AND NOT c.relispartition",
+            String.class);
+    for (String name : detached) {
+      if (!PARTITION_NAME.matcher(name).matches()) {
+        continue;
+      }
+      if (!properties.isArchiveEnabled()) {
+        jdbcTemplate.execute("DROP TABLE " + name);
+        log.info("Dropped activity partition {} without archiving", name);
+        continue;
+      }
+      try {
+        Path archive = archivePartition(name);
+        jdbcTemplate.execute("DROP TABLE " + name);
+        log.info("Archived activity partition {} to {}", name, archive);
+      } catch (IOException ex) {
+        log.warn("Unable to archive activity partition {}", name, ex);
+      }
+    }
+  }
+
+  private List<String> listPartitions() {
+    return jdbcTemplate
+        .queryForList(
+            "SELECT c.relname FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid "
+                + "JOIN pg_class p ON p.oid = i.inhparent "
+                + "WHERE p.relname = 'activities' ORDER BY c.relname",
+            String.class)
+        .stream()
+        .filter(name -> PARTITION_NAME.matcher(name).matches())
+        .toList();
+  }
+
+  private Path archivePartition(String name) throws IOException {
+    Path dir = Paths.get(properties.getArchiveDir());
+    Files.createDirectories(dir);
+    Path target = dir.resolve(name + ".ndjson.gz");
+    Path temp = dir.resolve(name + ".ndjson.gz.tmp");
+
+    try (Writer writer =
+        new BufferedWriter(
+            new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+      IOException[] failure = new IOException[1];
+      transactionTemplate.executeWithoutResult(
+          status ->
+              exportTemplate.query(
+                  "SELECT id, workspace_id, action, actor_id, issue_id, meta, created_at FROM "
+                      + name
+                      + " ORDER BY created_at",
+                  rs -> {
+                    if (failure[0] == null) {
+                      failure[0] = writeRow(writer, rs);
+                    }
+                  }));
+      if (failure[0] != null) {
+        throw failure[0];
+      }
+    }
+    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    return target;
+  }
+
+  private IOException writeRow(Writer writer, ResultSet rs) throws SQLException {
+    Map<String, Object> row = new LinkedHashMap<>();
+    row.put("id", rs.getString("id"));
+    row.put("workspaceId", rs.getString("workspace_id"));
+    row.put("action", rs.getString("action"));
+    row.put("actorId", rs.getString("actor_id"));
+    row.put("issueId", rs.getString("issue_id"));
+    row.put("meta", rs.getString("meta"));
+    row.put("createdAt", rs.getTimestamp("created_at").toInstant().toString());
+    try {
+      writer.write(objectMapper.writeValueAsString(row));
+      writer.write('\n');
+      return null;
+    } catch (IOException ex) {
+      return ex;
+    }
+  }
+
+  private static String utcBound(YearMonth month) {
+    return month.atDay(1) + " 00:00:00+00";
+  }
+
+  private String partitionName(YearMonth month) {
+    return "activities_p" + month.format(SUFFIX);
+  }
+}
@@ -2,6 +2,7 @@ package com.sprintdesk.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintdesk.config.ActivityProperties;
 import com.sprintdesk.dto.ActivityResponse;
 import com.sprintdesk.dto.IssueActivitySummary;
 import com.sprintdesk.dto.UserSummary;
@@ -11,6 +12,8 @@ import com.sprintdesk.model.User;
 import com.sprintdesk.repository.ActivityRepository;
 import com.sprintdesk.repository.IssueRepository;
 import com.sprintdesk.repository.UserRepository;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -21,6 +24,7 @@ import java.util.UUID;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ActivityService {
@@ -28,16 +32,19 @@ public class ActivityService {
   private final UserRepository userRepository;
   private final IssueRepository issueRepository;
   private final ObjectMapper objectMapper;
+  private final ActivityProperties activityProperties;
 
   public ActivityService(
       ActivityRepository activityRepository,
       UserRepository userRepository,
       IssueRepository issueRepository,
-      ObjectMapper objectMapper) {
+      ObjectMapper objectMapper,
+      ActivityProperties activityProperties) {
     this.activityRepository = activityRepository;
     this.userRepository = userRepository;
     this.issueRepository = issueRepository;
     this.objectMapper = objectMapper;
+    this.activityProperties = activityProperties;
   }
 
   /**
@@ -59,12 +66,9 @@ public class ActivityService {
     return activityRepository.save(activity);
   }
 
+  @Transactional(readOnly = true)
   public List<ActivityResponse> listActivities(UUID workspaceId, int limit) {
-    List<Activity> activities =
-        activityRepository
-            .findByWorkspaceId(
-                workspaceId, PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt")))
-            .getContent();
+    List<Activity> activities = loadRecent(workspaceId, limit);
 
     Map<UUID, User> users = loadUsers(activities);
     Map<UUID, Issue> issues = loadIssues(activities);
@@ -86,6 +90,24 @@ public class ActivityService {
     return results;
   }
 
+  /**
+   * Read the feed from the recent partitions first and only fall back to a full scan when the
+   * window does not hold enough rows.
+   */
+  private List<Activity> loadRecent(UUID workspaceId, int limit) {
+    PageRequest page = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
+    int windowDays = activityProperties.getFeedWindowDays();
+    if (windowDays > 0) {
+      Instant since = Instant.now().minus(Duration.ofDays(windowDays));
+      List<Activity> recent =
+          activityRepository.findByWorkspaceIdAndCreatedAtGreaterThanEqual(workspaceId, since, page);
+      if (recent.size() >= limit) {
+        return recent;
+      }
+    }
+    return activityRepository.findByWorkspaceId(workspaceId, page);
+  }
+
   private Map<String, Object> parseMeta(String metaJson) {
     if (metaJson == null || metaJson.isBlank()) {
       return null;
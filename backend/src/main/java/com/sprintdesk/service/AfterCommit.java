@@ -0,0 +1,28 @@
+package com.sprintdesk.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers in-memory side effects (cache updates, realtime pushes) until the surrounding
+ * transaction has committed, so nothing outside the database can observe a write that later
+ * rolls back, and a reader that reloads right after the side effect sees the committed rows.
+ * Outside a transaction every statement has already committed, so the action runs immediately.
+ */
+public final class AfterCommit {
+  private AfterCommit() {}
+
+  public static void run(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
@@ -0,0 +1,279 @@
+package com.sprintdesk.service;
+
+import com.sprintdesk.config.ArticleProperties;
+import com.sprintdesk.dto.ArticleDiffLine;
+import com.sprintdesk.dto.ArticleRevisionResponse;
+import com.sprintdesk.dto.UserSummary;
+import com.sprintdesk.model.Article;
+import com.sprintdesk.model.ArticleRevision;
+import com.sprintdesk.model.RevisionKind;
+import com.sprintdesk.model.User;
+import com.sprintdesk.repository.ArticleRepository;
+import com.sprintdesk.repository.ArticleRevisionRepository;
+import com.sprintdesk.repository.UserRepository;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class ArticleRevisionService {
+  /**
+   * Article history stored as deflated line deltas against the previous version, with a full
+   * snapshot every {@code app.articles.snapshot-interval} versions so rebuilding any version
+   * replays a bounded number of deltas.
+   */
+  private final ArticleRevisionRepository revisionRepository;
+  private final ArticleRepository articleRepository;
+  private final UserRepository userRepository;
+  private final WorkspaceService workspaceService;
+  private final ArticleProperties properties;
+
+  public ArticleRevisionService(
+      ArticleRevisionRepository revisionRepository,
+      ArticleRepository articleRepository,
+      UserRepository userRepository,
+      WorkspaceService workspaceService,
+      ArticleProperties properties) {
+    this.revisionRepository = revisionRepository;
+    this.articleRepository = articleRepository;
+    this.userRepository = userRepository;
+    this.workspaceService = workspaceService;
+    this.properties = properties;
+  }
+
+  public void recordCreated(Article article, UUID userId) {
+    saveSnapshot(article.getId(), 1, article.getTitle(), article.getBody(), userId);
+  }
+
+  /**
+   * Record a new version after an edit. Must run in the transaction that saved the article while
+   * it holds the article's row lock, so versions are numbered without gaps or collisions. The
+   * delta is taken against the latest stored version rather than what the caller loaded, so it
+   * always applies to the text it will be replayed on. Articles written before revisions existed
+   * get their previous content stored as version 1 first.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordUpdated(
+      Article article, String previousTitle, String previousBody, UUID userId) {
+    int previousVersion =
+        revisionRepository
+            .findTopByArticleIdOrderByVersionDesc(article.getId())
+            .map(ArticleRevision::getVersion)
+            .orElse(0);
+    String base;
+    if (previousVersion == 0) {
+      saveSnapshot(article.getId(), 1, previousTitle, previousBody, null);
+      previousVersion = 1;
+      base = previousBody;
+    } else {
+      base = rebuild(article.getId(), previousVersion).body();
+    }
+
+    int version = previousVersion + 1;
+    String body = article.getBody() == null ? "" : article.getBody();
+    int interval = Math.max(properties.getSnapshotInterval(), 1);
+    if ((version - 1) % interval == 0) {
+      saveSnapshot(article.getId(), version, article.getTitle(), body, userId);
+      return;
+    }
+
+    List<LineDiff.Edit> edits =
+        LineDiff.diff(
+            LineDiff.split(base), LineDiff.split(body), properties.getMaxDiffEdits());
+    byte[] snapshot = deflate(body.getBytes(StandardCharsets.UTF_8));
+    byte[] delta = edits == null ? null : deflate(LineDiff.encode(edits));
+    if (delta == null || delta.length >= snapshot.length) {
+      save(article.getId(), version, RevisionKind.SNAPSHOT, article.getTitle(), snapshot, body, userId);
+      return;
+    }
+    save(article.getId(), version, RevisionKind.DELTA, article.getTitle(), delta, body, userId);
+  }
+
+  public List<ArticleRevisionResponse> listRevisions(
+      UUID workspaceId, UUID userId, UUID articleId) {
+    workspaceService.requireMember(workspaceId, userId);
+    requireArticle(workspaceId, articleId);
+    List<ArticleRevisionRepository.SummaryView> revisions =
+        revisionRepository.findSummariesByArticleIdOrderByVersionDesc(articleId);
+    Set<UUID> authorIds = new HashSet<>();
+    for (ArticleRevisionRepository.SummaryView revision : revisions) {
+      if (revision.getCreatedBy() != null) {
+        authorIds.add(revision.getCreatedBy());
+      }
+    }
+    Map<UUID, User> users = loadUsers(authorIds);
+    return revisions.stream()
+        .map(
+            revision ->
+                new ArticleRevisionResponse(
+                    revision.getVersion(),
+                    revision.getKind().name().toLowerCase(Locale.ROOT),
+                    revision.getTitle(),
+                    null,
+                    revision.getBodyLength(),
+                    revision.getCreatedAt().toString(),
+                    toSummary(users.get(revision.getCreatedBy()))))
+        .toList();
+  }
+
+  public ArticleRevisionResponse getRevision(
+      UUID workspaceId, UUID userId, UUID articleId, int version) {
+    workspaceService.requireMember(workspaceId, userId);
+    requireArticle(workspaceId, articleId);
+    Rebuilt rebuilt = rebuild(articleId, version);
+    ArticleRevision revision = rebuilt.revision();
+    Map<UUID, User> users =
+        revision.getCreatedBy() == null ? Map.of() : loadUsers(Set.of(revision.getCreatedBy()));
+    return new ArticleRevisionResponse(
+        revision.getVersion(),
+        revision.getKind().name().toLowerCase(Locale.ROOT),
+        revision.getTitle(),
+        rebuilt.body(),
+        revision.getBodyLength(),
+        revision.getCreatedAt().toString(),
+        toSummary(users.get(revision.getCreatedBy())));
+  }
+
+  public List<ArticleDiffLine> diffRevisions(
+      UUID workspaceId, UUID userId, UUID articleId, int fromVersion, int toVersion) {
+    workspaceService.requireMember(workspaceId, userId);
+    requireArticle(workspaceId, articleId);
+    List<String> from = LineDiff.split(rebuild(articleId, fromVersion).body());
+    List<String> to = LineDiff.split(rebuild(articleId, toVersion).body());
+
+    List<LineDiff.Edit> edits = LineDiff.diff(from, to, properties.getMaxDiffEdits());
+    if (edits == null) {
+      // Too many changes to align cheaply; show it as a full replacement.
+      edits = new ArrayList<>(from.size() + to.size());
+      for (String line : from) {
+        edits.add(new LineDiff.Edit(LineDiff.Op.DELETE, line));
+      }
+      for (String line : to) {
+        edits.add(new LineDiff.Edit(LineDiff.Op.INSERT, line));
+      }
+    }
+    List<ArticleDiffLine> lines = new ArrayList<>(edits.size());
+    for (LineDiff.Edit edit : edits) {
+      lines.add(new ArticleDiffLine(edit.op().name().toLowerCase(Locale.ROOT), edit.line()));
+    }
+    return lines;
+  }
+
+  private Rebuilt rebuild(UUID articleId, int version) {
+    ArticleRevision snapshot =
+        revisionRepository
+            .findTopByArticleIdAndKindAndVersionLessThanEqualOrderByVersionDesc(
+                articleId, RevisionKind.SNAPSHOT, version)
+            .orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Revision not found"));
+    List<ArticleRevision> chain =
+        revisionRepository.findChain(articleId, snapshot.getVersion(), version);
+    ArticleRevision last = chain.isEmpty() ? null : chain.get(chain.size() - 1);
+    if (last == null || last.getVersion() != version) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Revision not found");
+    }
+
+    String body = new String(inflate(snapshot.getPayload()), StandardCharsets.UTF_8);
+    for (ArticleRevision revision : chain) {
+      if (revision.getVersion() == snapshot.getVersion()) {
+        continue;
+      }
+      body = LineDiff.apply(body, inflate(revision.getPayload()));
+    }
+    return new Rebuilt(last, body);
+  }
+
+  private void requireArticle(UUID workspaceId, UUID articleId) {
+    if (articleRepository.findByIdAndWorkspaceId(articleId, workspaceId).isEmpty()) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Article not found");
+    }
+  }
+
+  private void saveSnapshot(UUID articleId, int version, String title, String body, UUID userId) {
+    String text = body == null ? "" : body;
+    save(
+        articleId,
+        version,
+        RevisionKind.SNAPSHOT,
+        title,
+        deflate(text.getBytes(StandardCharsets.UTF_8)),
+        text,
+        userId);
+  }
+
+  private void save(
+      UUID articleId,
+      int version,
+      RevisionKind kind,
+      String title,
+      byte[] payload,
+      String body,
+      UUID userId) {
+    ArticleRevision revision = new ArticleRevision();
+    revision.setArticleId(articleId);
+    revision.setVersion(version);
+    revision.setKind(kind);
+    revision.setTitle(title);
+    revision.setPayload(payload);
+    revision.setBodyLength(body.length());
+    revision.setCreatedBy(userId);
+    revisionRepository.save(revision);
+  }
+
+  private byte[] deflate(byte[] data) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DeflaterOutputStream out =
+        new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_COMPRESSION))) {
+      out.write(data);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return bytes.toByteArray();
+  }
+
+  private byte[] inflate(byte[] data) {
+    try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(data))) {
+      return in.readAllBytes();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private Map<UUID, User> loadUsers(Set<UUID> ids) {
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    Map<UUID, User> lookup = new HashMap<>();
+    for (User user : userRepository.findByIdIn(ids)) {
+      lookup.put(user.getId(), user);
+    }
+    return lookup;
+  }
+
+  private UserSummary toSummary(User user) {
+    if (user == null) {
+      return null;
+    }
+    return new UserSummary(user.getId().toString(), user.getName(), user.getEmail(), user.getAvatarUrl());
+  }
+
+  private record Rebuilt(ArticleRevision revision, String body) {}
+}
@@ -1,28 +1,36 @@
 package com.sprintdesk.service;
 
 import com.sprintdesk.dto.ArticleRequest;
+import com.sprintdesk.api.RankCursor;
+import com.sprintdesk.config.ReplicaRouting;
 import com.sprintdesk.dto.ArticleResponse;
+import com.sprintdesk.dto.ArticleSearchResult;
+import com.sprintdesk.dto.ArticleSummary;
 import com.sprintdesk.dto.UserSummary;
+import com.sprintdesk.metrics.PhaseTracer;
 import com.sprintdesk.model.Article;
-import com.sprintdesk.model.Issue;
 import com.sprintdesk.model.User;
 import com.sprintdesk.model.Workspace;
 import com.sprintdesk.model.WorkspaceMember;
 import com.sprintdesk.model.WorkspaceRole;
 import com.sprintdesk.repository.ArticleRepository;
+import com.sprintdesk.repository.ArticleSearchRepository;
 import com.sprintdesk.repository.IssueRepository;
 import com.sprintdesk.repository.UserRepository;
 import com.sprintdesk.repository.WorkspaceRepository;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
@@ -31,36 +39,127 @@ public class ArticleService {
    * Manages knowledge base articles scoped to a workspace.
    */
   private final ArticleRepository articleRepository;
+  private final ArticleSearchRepository articleSearchRepository;
   private final WorkspaceRepository workspaceRepository;
   private final IssueRepository issueRepository;
   private final UserRepository userRepository;
   private final WorkspaceService workspaceService;
   private final ActivityService activityService;
+  private final RelatedArticleCache relatedArticleCache;
+  private final ArticleRevisionService revisionService;
+  private final ArticleSuggestionIndex suggestionIndex;
+  private final PhaseTracer phaseTracer;
+  private final ReplicaRouting replicaRouting;
 
   public ArticleService(
       ArticleRepository articleRepository,
+      ArticleSearchRepository articleSearchRepository,
       WorkspaceRepository workspaceRepository,
       IssueRepository issueRepository,
       UserRepository userRepository,
       WorkspaceService workspaceService,
-      ActivityService activityService) {
+      ActivityService activityService,
+      RelatedArticleCache relatedArticleCache,
+      ArticleRevisionService revisionService,
+      ArticleSuggestionIndex suggestionIndex,
+      PhaseTracer phaseTracer,
+      ReplicaRouting replicaRouting) {
     this.articleRepository = articleRepository;
+    this.articleSearchRepository = articleSearchRepository;
     this.workspaceRepository = workspaceRepository;
     this.issueRepository = issueRepository;
     this.userRepository = userRepository;
     this.workspaceService = workspaceService;
     this.activityService = activityService;
+    this.relatedArticleCache = relatedArticleCache;
+    this.revisionService = revisionService;
+    this.suggestionIndex = suggestionIndex;
+    this.phaseTracer = phaseTracer;
+    this.replicaRouting = replicaRouting;
   }
 
+  @Transactional(readOnly = true)
   public List<ArticleResponse> listArticles(UUID workspaceId, UUID userId, UUID issueId) {
     workspaceService.requireMember(workspaceId, userId);
     List<Article> articles =
         issueId == null
             ? articleRepository.findByWorkspaceId(workspaceId)
-            : articleRepository.findByWorkspaceIdAndLinkedIssueIdsContains(workspaceId, issueId);
+            : findRelatedArticles(workspaceId, issueId);
     return mapArticles(articles);
   }
 
+  public List<ArticleSummary> listArticleSummaries(UUID workspaceId, UUID userId, UUID issueId) {
+    workspaceService.requireMember(workspaceId, userId);
+    List<ArticleRepository.SummaryView> views;
+    if (issueId == null) {
+      views = articleRepository.findSummariesByWorkspaceIdOrderByUpdatedAtDesc(workspaceId);
+    } else {
+      List<UUID> articleIds = findRelatedArticleIds(issueId);
+      views =
+          articleIds.isEmpty()
+              ? List.of()
+              : articleRepository.findSummariesByWorkspaceIdAndIdInOrderByUpdatedAtDesc(
+                  workspaceId, articleIds);
+    }
+    return views.stream()
+        .map(
+            view ->
+                new ArticleSummary(
+                    view.getId().toString(),
+                    view.getKbId(),
+                    view.getTitle(),
+                    view.getUpdatedAt().toString()))
+        .toList();
+  }
+
+  public SearchPage searchArticles(
+      UUID workspaceId, UUID userId, String query, String cursor, int limit) {
+    workspaceService.requireMember(workspaceId, userId);
+    if (query == null || query.isBlank()) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Query is required");
+    }
+    RankCursor after = RankCursor.decode(cursor);
+    List<ArticleSearchRepository.Hit> hits =
+        articleSearchRepository.search(workspaceId, query.trim(), after, limit + 1);
+
+    String nextCursor = null;
+    if (hits.size() > limit) {
+      hits = hits.subList(0, limit);
+      ArticleSearchRepository.Hit last = hits.get(limit - 1);
+      nextCursor = new RankCursor(last.rank(), last.id()).encode();
+    }
+    List<ArticleSearchResult> results =
+        hits.stream()
+            .map(
+                hit ->
+                    new ArticleSearchResult(
+                        hit.id().toString(),
+                        hit.kbId(),
+                        hit.title(),
+                        hit.snippet(),
+                        hit.rank(),
+                        hit.updatedAt().toString()))
+            .toList();
+    return new SearchPage(results, nextCursor);
+  }
+
+  private List<Article> findRelatedArticles(UUID workspaceId, UUID issueId) {
+    List<UUID> articleIds = findRelatedArticleIds(issueId);
+    if (articleIds.isEmpty()) {
+      return List.of();
+    }
+    return articleRepository.findByWorkspaceIdAndIdIn(workspaceId, articleIds);
+  }
+
+  private List<UUID> findRelatedArticleIds(UUID issueId) {
+    // A replica read may miss a link that was just written, so it is not cached. The check runs
+    // after the load, against the route the transaction's connection actually took.
+    return relatedArticleCache.get(
+        issueId,
+        articleRepository::findArticleIdsByLinkedIssueId,
+        () -> !replicaRouting.routedToReplica());
+  }
+
   public ArticleResponse getArticle(UUID workspaceId, UUID userId, UUID articleId) {
     workspaceService.requireMember(workspaceId, userId);
     Article article =
@@ -71,99 +170,132 @@ public class ArticleService {
   }
 
   public ArticleResponse createArticle(UUID workspaceId, UUID userId, ArticleRequest request) {
-    WorkspaceMember member = workspaceService.requireMember(workspaceId, userId);
-    workspaceService.requireRole(member, WorkspaceRole.OWNER, WorkspaceRole.ADMIN, WorkspaceRole.MEMBER);
-
-    Workspace workspace =
-        workspaceRepository
-            .findById(workspaceId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Workspace not found"));
-
-    workspace.setKbCounter(workspace.getKbCounter() + 1);
-    workspaceRepository.save(workspace);
-
-    Article article = new Article();
-    article.setWorkspaceId(workspaceId);
-    article.setKbId(workspace.getKey() + "-KB-" + workspace.getKbCounter());
-    article.setTitle(safeTitle(request.title()));
-    article.setBody(request.body() == null ? "" : request.body());
-    article.setCreatedBy(userId);
-    article.setUpdatedBy(userId);
-    article.setLinkedIssueIds(parseLinkedIssues(workspaceId, request.linkedIssueIds()));
+    try (PhaseTracer.Trace trace = phaseTracer.start("article.create")) {
+      trace.phase("membership");
+      WorkspaceMember member = workspaceService.requireMember(workspaceId, userId);
+      workspaceService.requireRole(member, WorkspaceRole.OWNER, WorkspaceRole.ADMIN, WorkspaceRole.MEMBER);
+
+      trace.phase("workspace");
+      Workspace workspace =
+          workspaceRepository
+              .findById(workspaceId)
+              .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Workspace not found"));
+
+      workspace.setKbCounter(workspace.getKbCounter() + 1);
+      workspaceRepository.save(workspace);
+
+      trace.phase("links");
+      Article article = new Article();
+      article.setWorkspaceId(workspaceId);
+      article.setKbId(workspace.getKey() + "-KB-" + workspace.getKbCounter());
+      article.setTitle(safeTitle(request.title()));
+      article.setBody(request.body() == null ? "" : request.body());
+      article.setCreatedBy(userId);
+      article.setUpdatedBy(userId);
+      article.setLinkedIssueIds(parseLinkedIssues(workspaceId, request.linkedIssueIds()));
 
-    Article saved = articleRepository.save(article);
+      trace.phase("save");
+      Article saved = articleRepository.save(article);
+      trace.phase("index");
+      relatedArticleCache.invalidate(saved.getLinkedIssueIds());
+      revisionService.recordCreated(saved, userId);
+      suggestionIndex.upsert(saved);
 
-    Map<String, Object> meta =
-        Map.of(
-            "articleId", saved.getId().toString(),
-            "kbId", saved.getKbId(),
-            "title", saved.getTitle(),
-            "linkedIssueIds", toStringIds(saved.getLinkedIssueIds()));
+      trace.phase("activity");
+      Map<String, Object> meta =
+          Map.of(
+              "articleId", saved.getId().toString(),
+              "kbId", saved.getKbId(),
+              "title", saved.getTitle(),
+              "linkedIssueIds", toStringIds(saved.getLinkedIssueIds()));
 
-    String action = saved.getLinkedIssueIds().isEmpty() ? "kb_created" : "kb_linked";
-    activityService.logActivity(workspaceId, userId, null, action, meta);
+      String action = saved.getLinkedIssueIds().isEmpty() ? "kb_created" : "kb_linked";
+      activityService.logActivity(workspaceId, userId, null, action, meta);
 
-    return mapArticle(saved, loadUsers(saved));
+      trace.phase("response");
+      return mapArticle(saved, loadUsers(saved));
+    }
   }
 
+  @Transactional
   public ArticleResponse updateArticle(
       UUID workspaceId, UUID userId, UUID articleId, ArticleRequest request) {
-    WorkspaceMember member = workspaceService.requireMember(workspaceId, userId);
-    workspaceService.requireRole(member, WorkspaceRole.OWNER, WorkspaceRole.ADMIN, WorkspaceRole.MEMBER);
-
-    Article article =
-        articleRepository
-            .findByIdAndWorkspaceId(articleId, workspaceId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Article not found"));
+    try (PhaseTracer.Trace trace = phaseTracer.start("article.update")) {
+      trace.phase("membership");
+      WorkspaceMember member = workspaceService.requireMember(workspaceId, userId);
+      workspaceService.requireRole(member, WorkspaceRole.OWNER, WorkspaceRole.ADMIN, WorkspaceRole.MEMBER);
+
+      trace.phase("load");
+      Article article =
+          articleRepository
+              .findForUpdate(articleId, workspaceId)
+              .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Article not found"));
+
+      trace.phase("links");
+      boolean titleChanged = request.title() != null;
+      boolean bodyChanged = request.body() != null;
+      Set<UUID> previousLinked = new HashSet<>(article.getLinkedIssueIds());
+      String previousTitle = article.getTitle();
+      String previousBody = article.getBody();
+
+      if (titleChanged) {
+        article.setTitle(safeTitle(request.title()));
+      }
+      if (bodyChanged) {
+        article.setBody(request.body() == null ? "" : request.body());
+      }
+      if (request.linkedIssueIds() != null) {
+        article.setLinkedIssueIds(parseLinkedIssues(workspaceId, request.linkedIssueIds()));
+      }
+      article.setUpdatedBy(userId);
 
-    boolean titleChanged = request.title() != null;
-    boolean bodyChanged = request.body() != null;
-    List<UUID> previousLinked = new ArrayList<>(article.getLinkedIssueIds());
+      trace.phase("save");
+      Article saved = articleRepository.save(article);
 
-    if (titleChanged) {
-      article.setTitle(safeTitle(request.title()));
-    }
-    if (bodyChanged) {
-      article.setBody(request.body() == null ? "" : request.body());
-    }
-    if (request.linkedIssueIds() != null) {
-      article.setLinkedIssueIds(parseLinkedIssues(workspaceId, request.linkedIssueIds()));
-    }
-    article.setUpdatedBy(userId);
-
-    Article saved = articleRepository.save(article);
+      trace.phase("index");
+      List<String> addedLinks = new ArrayList<>();
+      for (UUID linked : saved.getLinkedIssueIds()) {
+        if (!previousLinked.contains(linked)) {
+          addedLinks.add(linked.toString());
+        }
+      }
+      if (request.linkedIssueIds() != null) {
+        relatedArticleCache.invalidate(previousLinked);
+        relatedArticleCache.invalidate(saved.getLinkedIssueIds());
+      }
+      if (!Objects.equals(previousTitle, saved.getTitle())
+          || !Objects.equals(previousBody, saved.getBody())) {
+        revisionService.recordUpdated(saved, previousTitle, previousBody, userId);
+        suggestionIndex.upsert(saved);
+      }
 
-    List<String> addedLinks = new ArrayList<>();
-    for (UUID linked : saved.getLinkedIssueIds()) {
-      if (!previousLinked.contains(linked)) {
-        addedLinks.add(linked.toString());
+      trace.phase("activity");
+      if (!addedLinks.isEmpty()) {
+        activityService.logActivity(
+            workspaceId,
+            userId,
+            null,
+            "kb_linked",
+            Map.of(
+                "articleId", saved.getId().toString(),
+                "kbId", saved.getKbId(),
+                "title", saved.getTitle(),
+                "linkedIssueIds", addedLinks));
+      } else if (titleChanged || bodyChanged) {
+        activityService.logActivity(
+            workspaceId,
+            userId,
+            null,
+            "kb_updated",
+            Map.of(
+                "articleId", saved.getId().toString(),
+                "kbId", saved.getKbId(),
+                "title", saved.getTitle()));
       }
-    }
 
-    if (!addedLinks.isEmpty()) {
-      activityService.logActivity(
-          workspaceId,
-          userId,
-          null,
-          "kb_linked",
-          Map.of(
-              "articleId", saved.getId().toString(),
-              "kbId", saved.getKbId(),
-              "title", saved.getTitle(),
-              "linkedIssueIds", addedLinks));
-    } else if (titleChanged || bodyChanged) {
-      activityService.logActivity(
-          workspaceId,
-          userId,
-          null,
-          "kb_updated",
-          Map.of(
-              "articleId", saved.getId().toString(),
-              "kbId", saved.getKbId(),
-              "title", saved.getTitle()));
+      trace.phase("response");
+      return mapArticle(saved, loadUsers(saved));
     }
-
-    return mapArticle(saved, loadUsers(saved));
   }
 
   public void deleteArticle(UUID workspaceId, UUID userId, UUID articleId) {
@@ -174,7 +306,10 @@ public class ArticleService {
         articleRepository
             .findByIdAndWorkspaceId(articleId, workspaceId)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Article not found"));
+    List<UUID> linked = article.getLinkedIssueIds();
     articleRepository.delete(article);
+    relatedArticleCache.invalidate(linked);
+    suggestionIndex.remove(workspaceId, articleId);
   }
 
   private String safeTitle(String title) {
@@ -184,32 +319,40 @@ public class ArticleService {
     return title.trim();
   }
 
-  private List<UUID> parseLinkedIssues(UUID workspaceId, List<String> ids) {
+  /**
+   * Resolve requested links with one query and report every id that is not an issue in this
+   * workspace.
+   */
+  private Set<UUID> parseLinkedIssues(UUID workspaceId, List<String> ids) {
     if (ids == null) {
-      return List.of();
+      return Set.of();
     }
-    List<UUID> results = new ArrayList<>();
+    Set<UUID> requested = new LinkedHashSet<>();
+    List<String> invalid = new ArrayList<>();
     for (String raw : ids) {
       if (raw == null || raw.isBlank()) {
         continue;
       }
-      UUID id = parseUuid(raw);
-      Issue issue =
-          issueRepository
-              .findByIdAndWorkspaceId(id, workspaceId)
-              .orElseThrow(
-                  () -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid issue link"));
-      results.add(issue.getId());
+      try {
+        requested.add(UUID.fromString(raw.trim()));
+      } catch (IllegalArgumentException ex) {
+        invalid.add(raw);
+      }
     }
-    return results;
-  }
-
-  private UUID parseUuid(String value) {
-    try {
-      return UUID.fromString(value);
-    } catch (IllegalArgumentException ex) {
-      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid id");
+    if (!requested.isEmpty()) {
+      Set<UUID> found =
+          new HashSet<>(issueRepository.findIdsByWorkspaceIdAndIdIn(workspaceId, requested));
+      for (UUID id : requested) {
+        if (!found.contains(id)) {
+          invalid.add(id.toString());
+        }
+      }
     }
+    if (!invalid.isEmpty()) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Invalid issue link: " + String.join(", ", invalid));
+    }
+    return requested;
   }
 
   private List<ArticleResponse> mapArticles(List<Article> articles) {
@@ -271,4 +414,6 @@ public class ArticleService {
     }
     return new UserSummary(user.getId().toString(), user.getName(), user.getEmail(), user.getAvatarUrl());
   }
+
+  public record SearchPage(List<ArticleSearchResult> results, String nextCursor) {}
 }
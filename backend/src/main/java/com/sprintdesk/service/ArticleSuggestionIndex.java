@@ -0,0 +1,191 @@
+package com.sprintdesk.service;
+
+import com.sprintdesk.metrics.CacheMetrics;
+import com.sprintdesk.model.Article;
+import com.sprintdesk.repository.ArticleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ArticleSuggestionIndex {
+  /**
+   * In-memory BM25 index of knowledge base articles, one per workspace. A workspace is loaded from
+   * the database the first time it is queried and then kept current by ArticleService writes once
+   * they commit. Only the most recently queried workspaces stay loaded.
+   */
+  private static final int MAX_WORKSPACES = 256;
+  private static final long LOAD_FAILURE_BACKOFF_MILLIS = 5_000;
+  private static final double K1 = 1.2;
+  private static final double B = 0.75;
+  private static final int TITLE_BOOST = 3;
+  private static final Set<String> STOP_WORDS =
+      Set.of(
+          "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have",
+          "if", "in", "into", "is", "it", "its", "not", "of", "on", "or", "so", "that", "the",
+          "their", "then", "there", "these", "this", "to", "was", "we", "were", "when", "will",
+          "with", "you", "your");
+
+  private final ArticleRepository articleRepository;
+  private final BoundedLoadingCache<UUID, WorkspaceIndex> indexes;
+
+  public ArticleSuggestionIndex(ArticleRepository articleRepository, MeterRegistry meterRegistry) {
+    this.articleRepository = articleRepository;
+    this.indexes =
+        new BoundedLoadingCache<>(
+            MAX_WORKSPACES,
+            LOAD_FAILURE_BACKOFF_MILLIS,
+            this::load,
+            CacheMetrics.register(meterRegistry, "article_suggestion_index"));
+  }
+
+  public List<Match> suggest(UUID workspaceId, String text, Collection<UUID> exclude, int limit) {
+    Set<String> terms = new LinkedHashSet<>(tokenize(text));
+    if (terms.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    return indexes.get(workspaceId).search(terms, exclude, limit);
+  }
+
+  /**
+   * Re-index an article after it was created or edited. Workspaces that were never queried are
+   * left unloaded.
+   */
+  public void upsert(Article article) {
+    AfterCommit.run(() -> indexes.update(article.getWorkspaceId(), index -> index.put(article)));
+  }
+
+  public void remove(UUID workspaceId, UUID articleId) {
+    AfterCommit.run(() -> indexes.update(workspaceId, index -> index.remove(articleId)));
+  }
+
+  public void invalidateWorkspace(UUID workspaceId) {
+    AfterCommit.run(() -> indexes.invalidate(workspaceId));
+  }
+
+  private WorkspaceIndex load(UUID workspaceId) {
+    WorkspaceIndex index = new WorkspaceIndex();
+    for (Article article : articleRepository.findByWorkspaceId(workspaceId)) {
+      index.put(article);
+    }
+    return index;
+  }
+
+  static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    if (text == null || text.isEmpty()) {
+      return tokens;
+    }
+    String lower = text.toLowerCase(Locale.ROOT);
+    int start = -1;
+    for (int i = 0; i <= lower.length(); i++) {
+      boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        String token = lower.substring(start, i);
+        if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+          tokens.add(token);
+        }
+        start = -1;
+      }
+    }
+    return tokens;
+  }
+
+  public record Match(UUID articleId, String kbId, String title, double score) {}
+
+  private record Document(String kbId, String title, Map<String, Integer> termCounts, int length) {}
+
+  private static final class WorkspaceIndex {
+    private final Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+    private final Map<UUID, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    synchronized void put(Article article) {
+      remove(article.getId());
+      Map<String, Integer> counts = new HashMap<>();
+      int length = 0;
+      for (String token : tokenize(article.getTitle())) {
+        counts.merge(token, TITLE_BOOST, Integer::sum);
+        length += TITLE_BOOST;
+      }
+      for (String token : tokenize(article.getBody())) {
+        counts.merge(token, 1, Integer::sum);
+        length++;
+      }
+      for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+        postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(article.getId(), entry.getValue());
+      }
+      documents.put(article.getId(), new Document(article.getKbId(), article.getTitle(), counts, length));
+      totalLength += length;
+    }
+
+    synchronized void remove(UUID articleId) {
+      Document previous = documents.remove(articleId);
+      if (previous == null) {
+        return;
+      }
+      for (String term : previous.termCounts().keySet()) {
+        Map<UUID, Integer> list = postings.get(term);
+        if (list != null) {
+          list.remove(articleId);
+          if (list.isEmpty()) {
+            postings.remove(term);
+          }
+        }
+      }
+      totalLength -= previous.length();
+    }
+
+    synchronized List<Match> search(Set<String> terms, Collection<UUID> exclude, int limit) {
+      int documentCount = documents.size();
+      if (documentCount == 0) {
+        return List.of();
+      }
+      double averageLength = Math.max(1.0, (double) totalLength / documentCount);
+      Map<UUID, Double> scores = new HashMap<>();
+      for (String term : terms) {
+        Map<UUID, Integer> list = postings.get(term);
+        if (list == null) {
+          continue;
+        }
+        double idf = Math.log(1 + (documentCount - list.size() + 0.5) / (list.size() + 0.5));
+        for (Map.Entry<UUID, Integer> posting : list.entrySet()) {
+          int tf = posting.getValue();
+          int length = documents.get(posting.getKey()).length();
+          double score = idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / averageLength));
+          scores.merge(posting.getKey(), score, Double::sum);
+        }
+      }
+
+      PriorityQueue<Map.Entry<UUID, Double>> top =
+          new PriorityQueue<>(limit + 1, Map.Entry.comparingByValue());
+      for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+        if (exclude.contains(entry.getKey())) {
+          continue;
+        }
+        top.add(entry);
+        if (top.size() > limit) {
+          top.poll();
+        }
+      }
+      List<Match> matches = new ArrayList<>(top.size());
+      while (!top.isEmpty()) {
+        Map.Entry<UUID, Double> entry = top.poll();
+        Document document = documents.get(entry.getKey());
+        matches.add(0, new Match(entry.getKey(), document.kbId(), document.title(), entry.getValue()));
+      }
+      return matches;
+    }
+  }
+}
@@ -8,62 +8,83 @@ import com.sprintdesk.model.RefreshToken;
 import com.sprintdesk.model.Role;
 import com.sprintdesk.model.User;
 import com.sprintdesk.repository.RefreshTokenRepository;
+import com.sprintdesk.repository.RefreshTokenRotationRepository;
 import com.sprintdesk.repository.UserRepository;
 import com.sprintdesk.security.JwtService;
+import com.sprintdesk.security.PasswordHashingService;
 import com.sprintdesk.security.TokenService;
+import com.sprintdesk.security.SecurityProperties;
 import java.time.Instant;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class AuthService {
+  private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
   private final UserRepository userRepository;
   private final RefreshTokenRepository refreshTokenRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final RefreshTokenRotationRepository rotationRepository;
+  private final PasswordHashingService passwordHashing;
   private final JwtService jwtService;
   private final TokenService tokenService;
   private final DemoService demoService;
   private final GoogleAuthService googleAuthService;
   private final OtpService otpService;
+  private final SecurityProperties securityProperties;
 
   public AuthService(
       UserRepository userRepository,
       RefreshTokenRepository refreshTokenRepository,
-      PasswordEncoder passwordEncoder,
+      RefreshTokenRotationRepository rotationRepository,
+      PasswordHashingService passwordHashing,
       JwtService jwtService,
       TokenService tokenService,
       DemoService demoService,
       GoogleAuthService googleAuthService,
-      OtpService otpService) {
+      OtpService otpService,
+      SecurityProperties securityProperties) {
     this.userRepository = userRepository;
     this.refreshTokenRepository = refreshTokenRepository;
-    this.passwordEncoder = passwordEncoder;
+    this.rotationRepository = rotationRepository;
+    this.passwordHashing = passwordHashing;
     this.jwtService = jwtService;
     this.tokenService = tokenService;
     this.demoService = demoService;
     this.googleAuthService = googleAuthService;
     this.otpService = otpService;
+    this.securityProperties = securityProperties;
   }
 
-  public AuthPayload register(RegisterRequest request) {
+  public AuthPayload register(RegisterRequest request, String clientIp) {
     String email = request.email().toLowerCase();
     if (userRepository.existsByEmailIgnoreCase(email)) {
       throw new ResponseStatusException(HttpStatus.CONFLICT, "Email already in use");
     }
 
+    String passwordHash;
+    PasswordHashingService.Admission admission = passwordHashing.admit(clientIp, email);
+    try {
+      passwordHash = passwordHashing.encode(request.password());
+    } finally {
+      admission.close();
+    }
+
     User user = new User();
     user.setEmail(email);
     user.setName(request.name().trim());
-    user.setPasswordHash(passwordEncoder.encode(request.password()));
+    user.setPasswordHash(passwordHash);
     user.setRole(Role.MEMBER);
     userRepository.save(user);
 
     return issueTokens(user);
   }
 
-  public AuthPayload login(LoginRequest request) {
+  public AuthPayload login(LoginRequest request, String clientIp) {
     String email = request.email().toLowerCase();
     User user =
         userRepository
@@ -71,8 +92,19 @@ public class AuthService {
             .orElseThrow(
                 () -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials"));
 
-    if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
-      throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
+    String upgradedHash;
+    PasswordHashingService.Admission admission = passwordHashing.admit(clientIp, email);
+    try {
+      if (!passwordHashing.matches(request.password(), user.getPasswordHash())) {
+        throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid credentials");
+      }
+      upgradedHash = passwordHashing.upgrade(request.password(), user.getPasswordHash());
+    } finally {
+      admission.close();
+    }
+    if (upgradedHash != null) {
+      user.setPasswordHash(upgradedHash);
+      userRepository.save(user);
     }
 
     return issueTokens(user);
@@ -84,20 +116,44 @@ public class AuthService {
     }
 
     String tokenHash = tokenService.hashToken(refreshToken);
-    RefreshToken stored =
-        refreshTokenRepository
-            .findByTokenHash(tokenHash)
-            .orElseThrow(
-                () -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token invalid"));
-
-    if (stored.getRevokedAt() != null || stored.getExpiresAt().isBefore(Instant.now())) {
+    String nextToken = tokenService.generateRefreshToken();
+    Instant now = Instant.now();
+    RefreshTokenRotationRepository.TokenOwner owner =
+        rotationRepository
+            .rotate(tokenHash, tokenService.hashToken(nextToken), tokenService.refreshTokenExpiry(), now)
+            .orElse(null);
+    if (owner == null) {
+      refreshTokenRepository
+          .findStateByTokenHash(tokenHash)
+          .ifPresent(state -> detectReuse(state, now));
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token invalid");
     }
 
-    stored.setRevokedAt(Instant.now());
-    refreshTokenRepository.save(stored);
+    // Avatar and contact are not read on this path; clients load the full profile from
+    // /api/users/me.
+    String accessToken = jwtService.generateAccessToken(owner.id(), owner.role());
+    UserResponse user =
+        new UserResponse(owner.id().toString(), owner.email(), owner.name(), null, null);
+    return new AuthPayload(new AuthResponse(accessToken, user), nextToken);
+  }
 
-    return issueTokens(stored.getUser());
+  /**
+   * A token that was already rotated is being presented again. Outside the grace window for
+   * concurrent refreshes this means the token leaked, so every token in its family is revoked.
+   */
+  private void detectReuse(RefreshTokenRepository.TokenStateView stored, Instant now) {
+    Instant revokedAt = stored.getRevokedAt();
+    if (revokedAt == null
+        || revokedAt.plusSeconds(securityProperties.getRefreshReuseGraceSeconds()).isAfter(now)) {
+      return;
+    }
+    int revoked = refreshTokenRepository.revokeFamily(stored.getFamilyId(), now);
+    if (revoked > 0) {
+      log.warn(
+          "Refresh token reuse detected for family {}; revoked {} token(s)",
+          stored.getFamilyId(),
+          revoked);
+    }
   }
 
   public void logout(String refreshToken) {
@@ -106,14 +162,8 @@ public class AuthService {
     }
     String tokenHash = tokenService.hashToken(refreshToken);
     refreshTokenRepository
-        .findByTokenHash(tokenHash)
-        .ifPresent(
-            stored -> {
-              if (stored.getRevokedAt() == null) {
-                stored.setRevokedAt(Instant.now());
-                refreshTokenRepository.save(stored);
-              }
-            });
+        .findStateByTokenHash(tokenHash)
+        .ifPresent(stored -> refreshTokenRepository.revokeFamily(stored.getFamilyId(), Instant.now()));
   }
 
   public AuthPayload loginDemo(String type) {
@@ -133,7 +183,7 @@ public class AuthService {
       created.setEmail(profile.email().toLowerCase());
       created.setName(buildName(profile.email(), profile.name()));
       created.setAvatarUrl(profile.avatarUrl());
-      created.setPasswordHash(passwordEncoder.encode(tokenService.generateRefreshToken()));
+      created.setPasswordHash(passwordHashing.encode(tokenService.generateRefreshToken()));
       created.setRole(Role.MEMBER);
       return userRepository.save(created);
     });
@@ -158,7 +208,7 @@ public class AuthService {
       User created = new User();
       created.setEmail(normalized);
       created.setName(buildName(normalized, null));
-      created.setPasswordHash(passwordEncoder.encode(tokenService.generateRefreshToken()));
+      created.setPasswordHash(passwordHashing.encode(tokenService.generateRefreshToken()));
       created.setRole(Role.MEMBER);
       return userRepository.save(created);
     });
@@ -172,6 +222,7 @@ public class AuthService {
 
     RefreshToken stored = new RefreshToken();
     stored.setUser(user);
+    stored.setFamilyId(UUID.randomUUID());
     stored.setTokenHash(tokenService.hashToken(refreshToken));
     stored.setExpiresAt(tokenService.refreshTokenExpiry());
     refreshTokenRepository.save(stored);
@@ -0,0 +1,117 @@
+package com.sprintdesk.service;
+
+import com.sprintdesk.metrics.CacheMetrics;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Least-recently-used cache for values that are expensive to build, such as per-workspace
+ * indexes. The first caller for a key runs the loader outside the cache lock while later callers
+ * for the same key wait on its result, so one slow load neither blocks other keys nor runs twice.
+ * A failed load is remembered for {@code failureBackoffMillis} and rethrown to callers in that
+ * window instead of being retried on every request. Invalidating a key while it loads discards
+ * the in-flight result.
+ */
+final class BoundedLoadingCache<K, V> {
+  private final Function<K, V> loader;
+  private final long failureBackoffMillis;
+  private final CacheMetrics metrics;
+  private final Map<K, Slot<V>> slots;
+
+  BoundedLoadingCache(
+      int maxEntries, long failureBackoffMillis, Function<K, V> loader, CacheMetrics metrics) {
+    this.loader = loader;
+    this.failureBackoffMillis = failureBackoffMillis;
+    this.metrics = metrics;
+    this.slots =
+        new LinkedHashMap<>(64, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<K, Slot<V>> eldest) {
+            return size() > maxEntries;
+          }
+        };
+  }
+
+  V get(K key) {
+    Slot<V> slot;
+    boolean load = false;
+    synchronized (slots) {
+      slot = slots.get(key);
+      if (slot == null || slot.retryable(System.currentTimeMillis(), failureBackoffMillis)) {
+        slot = new Slot<>();
+        slots.put(key, slot);
+        load = true;
+      }
+    }
+    if (load) {
+      metrics.miss();
+      try {
+        slot.future.complete(loader.apply(key));
+      } catch (Throwable ex) {
+        // Errors too: a slot left incomplete would block every later caller for the key in join.
+        synchronized (slots) {
+          slot.failedAt = System.currentTimeMillis();
+        }
+        slot.future.completeExceptionally(ex);
+      }
+    } else {
+      metrics.hit();
+    }
+    try {
+      return slot.future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (ex.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * Applies {@code change} to the cached value in place. Keys that are not loaded are left
+   * alone; a key that is still loading is dropped, since its load may predate the change.
+   */
+  void update(K key, Consumer<V> change) {
+    V value;
+    synchronized (slots) {
+      Slot<V> slot = slots.get(key);
+      if (slot == null) {
+        return;
+      }
+      if (!slot.future.isDone() || slot.future.isCompletedExceptionally()) {
+        slots.remove(key);
+        return;
+      }
+      value = slot.future.join();
+    }
+    change.accept(value);
+  }
+
+  void invalidate(K key) {
+    synchronized (slots) {
+      slots.remove(key);
+    }
+  }
+
+  void clear() {
+    synchronized (slots) {
+      slots.clear();
+    }
+  }
+
+  private static final class Slot<V> {
+    private final CompletableFuture<V> future = new CompletableFuture<>();
+    private long failedAt = -1;
+
+    private boolean retryable(long now, long backoffMillis) {
+      return failedAt >= 0 && now - failedAt >= backoffMillis;
+    }
+  }
+}
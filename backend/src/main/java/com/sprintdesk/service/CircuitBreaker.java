@@ -0,0 +1,73 @@
+package com.sprintdesk.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+
+/**
+ * Minimal circuit breaker for a remote dependency. After {@code failureThreshold} consecutive
+ * failures it opens and rejects calls for {@code openDuration}; the first call after that is let
+ * through as a trial and closes the breaker again if it succeeds.
+ */
+public final class CircuitBreaker {
+  private final int failureThreshold;
+  private final Duration openDuration;
+  private int consecutiveFailures;
+  private Instant openUntil = Instant.EPOCH;
+  private boolean trialInFlight;
+
+  public CircuitBreaker(int failureThreshold, Duration openDuration) {
+    this.failureThreshold = Math.max(failureThreshold, 1);
+    this.openDuration = openDuration;
+  }
+
+  /**
+   * Run {@code call} unless the breaker is open. Exceptions from the call count as failures and
+   * are rethrown.
+   */
+  public <T> T call(Supplier<T> call) {
+    if (!tryAcquire()) {
+      throw new OpenException();
+    }
+    try {
+      T result = call.get();
+      onSuccess();
+      return result;
+    } catch (RuntimeException ex) {
+      onFailure();
+      throw ex;
+    }
+  }
+
+  private synchronized boolean tryAcquire() {
+    if (consecutiveFailures < failureThreshold) {
+      return true;
+    }
+    if (Instant.now().isBefore(openUntil) || trialInFlight) {
+      return false;
+    }
+    trialInFlight = true;
+    return true;
+  }
+
+  private synchronized void onSuccess() {
+    consecutiveFailures = 0;
+    trialInFlight = false;
+  }
+
+  private synchronized void onFailure() {
+    consecutiveFailures++;
+    trialInFlight = false;
+    if (consecutiveFailures >= failureThreshold) {
+      openUntil = Instant.now().plus(openDuration);
+    }
+  }
+
+  public static class OpenException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    OpenException() {
+      super("Circuit open");
+    }
+  }
+}
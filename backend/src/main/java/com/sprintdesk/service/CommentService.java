@@ -1,99 +1,152 @@
 package com.sprintdesk.service;
 
+import com.sprintdesk.api.PageCursor;
 import com.sprintdesk.dto.CommentRequest;
 import com.sprintdesk.dto.CommentResponse;
 import com.sprintdesk.dto.UserSummary;
+import com.sprintdesk.metrics.PhaseTracer;
 import com.sprintdesk.model.Comment;
 import com.sprintdesk.model.Issue;
 import com.sprintdesk.model.User;
-import com.sprintdesk.model.WorkspaceMember;
 import com.sprintdesk.repository.CommentRepository;
+import com.sprintdesk.repository.IssueLastActivityRepository;
 import com.sprintdesk.repository.IssueRepository;
 import com.sprintdesk.repository.UserRepository;
-import com.sprintdesk.repository.WorkspaceMemberRepository;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class CommentService {
-  private static final Pattern MENTION_PATTERN =
-      Pattern.compile("@([\\w.+-]+@[\\w.-]+\\.[A-Za-z]{2,})");
-
   private final CommentRepository commentRepository;
   private final IssueRepository issueRepository;
-  private final WorkspaceMemberRepository memberRepository;
+  private final IssueLastActivityRepository lastActivityRepository;
   private final UserRepository userRepository;
   private final WorkspaceService workspaceService;
   private final ActivityService activityService;
-  private final NotificationService notificationService;
+  private final NotificationFanoutService notificationFanoutService;
   private final RealtimeService realtimeService;
+  private final MentionMatcherCache mentionMatchers;
+  private final PhaseTracer phaseTracer;
 
   public CommentService(
       CommentRepository commentRepository,
       IssueRepository issueRepository,
-      WorkspaceMemberRepository memberRepository,
+      IssueLastActivityRepository lastActivityRepository,
       UserRepository userRepository,
       WorkspaceService workspaceService,
       ActivityService activityService,
-      NotificationService notificationService,
-      RealtimeService realtimeService) {
+      NotificationFanoutService notificationFanoutService,
+      RealtimeService realtimeService,
+      MentionMatcherCache mentionMatchers,
+      PhaseTracer phaseTracer) {
     this.commentRepository = commentRepository;
     this.issueRepository = issueRepository;
-    this.memberRepository = memberRepository;
+    this.lastActivityRepository = lastActivityRepository;
     this.userRepository = userRepository;
     this.workspaceService = workspaceService;
     this.activityService = activityService;
-    this.notificationService = notificationService;
+    this.notificationFanoutService = notificationFanoutService;
     this.realtimeService = realtimeService;
+    this.mentionMatchers = mentionMatchers;
+    this.phaseTracer = phaseTracer;
   }
 
   /**
-   * Load comments for an issue after workspace membership validation.
+   * Load a window of comments for an issue after workspace membership validation. Without a
+   * cursor this is the newest {@code limit} comments; {@code before} pages towards older ones and
+   * {@code after} returns only comments newer than the cursor. Comments are always oldest first.
    */
-  public List<CommentResponse> listComments(UUID issueId, UUID userId) {
+  public CommentPage listComments(
+      UUID issueId, UUID userId, String before, String after, int limit) {
     Issue issue = loadIssue(issueId);
     workspaceService.requireMember(issue.getWorkspaceId(), userId);
-    List<Comment> comments = commentRepository.findByIssueIdOrderByCreatedAtAsc(issueId);
-    return mapComments(comments);
+    PageCursor beforeCursor = PageCursor.decode(before);
+    PageCursor afterCursor = PageCursor.decode(after);
+    PageRequest page = PageRequest.of(0, limit + 1);
+
+    if (afterCursor != null) {
+      List<Comment> comments =
+          commentRepository.findPageAfter(
+              issueId, afterCursor.createdAt(), afterCursor.id(), page);
+      boolean hasNewer = comments.size() > limit;
+      if (hasNewer) {
+        comments = comments.subList(0, limit);
+      }
+      String latest = comments.isEmpty() ? after : cursorOf(comments.get(comments.size() - 1));
+      return new CommentPage(mapComments(comments), null, hasNewer ? latest : null, latest);
+    }
+
+    List<Comment> comments =
+        new ArrayList<>(
+            beforeCursor == null
+                ? commentRepository.findByIssueIdOrderByCreatedAtDescIdDesc(issueId, page)
+                : commentRepository.findPageBefore(
+                    issueId, beforeCursor.createdAt(), beforeCursor.id(), page));
+    boolean hasOlder = comments.size() > limit;
+    if (hasOlder) {
+      comments = comments.subList(0, limit);
+    }
+    Collections.reverse(comments);
+    String prevCursor = hasOlder ? cursorOf(comments.get(0)) : null;
+    String latest =
+        beforeCursor != null || comments.isEmpty()
+            ? null
+            : cursorOf(comments.get(comments.size() - 1));
+    return new CommentPage(mapComments(comments), prevCursor, null, latest);
   }
 
   public CommentResponse createComment(UUID issueId, UUID userId, CommentRequest request) {
-    Issue issue = loadIssue(issueId);
-    WorkspaceMember member = workspaceService.requireMember(issue.getWorkspaceId(), userId);
-
-    Comment comment = new Comment();
-    comment.setIssueId(issueId);
-    comment.setUserId(userId);
-    comment.setBody(request.body());
-    comment.setInternal(false);
-    Comment saved = commentRepository.save(comment);
-
-    issue.setUpdatedAt(java.time.Instant.now());
-    issueRepository.save(issue);
-
-    activityService.logActivity(
-        issue.getWorkspaceId(),
-        userId,
-        issueId,
-        "comment_added",
-        java.util.Map.of("commentId", saved.getId().toString()));
-
-    realtimeService.publishWorkspaceEvent(
-        issue.getWorkspaceId().toString(),
-        "comment_added",
-        java.util.Map.of("issueId", issueId.toString(), "actorId", userId.toString()));
-
-    notifyMentions(issue, member, request.body());
+    try (PhaseTracer.Trace trace = phaseTracer.start("comment.create")) {
+      trace.phase("load");
+      Issue issue = loadIssue(issueId);
+      trace.phase("membership");
+      workspaceService.requireMember(issue.getWorkspaceId(), userId);
+
+      trace.phase("save");
+      Comment comment = new Comment();
+      comment.setIssueId(issueId);
+      comment.setUserId(userId);
+      comment.setBody(request.body());
+      comment.setInternal(false);
+      Comment saved = commentRepository.save(comment);
+
+      lastActivityRepository.touch(issueId, saved.getCreatedAt());
+
+      trace.phase("activity");
+      activityService.logActivity(
+          issue.getWorkspaceId(),
+          userId,
+          issueId,
+          "comment_added",
+          java.util.Map.of("commentId", saved.getId().toString()));
+
+      trace.phase("realtime");
+      realtimeService.publishWorkspaceEvent(
+          issue.getWorkspaceId().toString(),
+          "comment_added",
+          java.util.Map.of(
+              "issueId", issueId.toString(),
+              "actorId", userId.toString(),
+              "commentId", saved.getId().toString()));
+
+      trace.phase("notification");
+      notifyMentions(issue, userId, request.body());
+
+      trace.phase("response");
+      return mapComment(saved, userRepository.findById(userId).orElse(null));
+    }
+  }
 
-    return mapComment(saved, userRepository.findById(userId).orElse(null));
+  private String cursorOf(Comment comment) {
+    return new PageCursor(comment.getCreatedAt(), comment.getId()).encode();
   }
 
   private Issue loadIssue(UUID issueId) {
@@ -102,43 +155,21 @@ public class CommentService {
         .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Issue not found"));
   }
 
-  private void notifyMentions(Issue issue, WorkspaceMember author, String body) {
+  private void notifyMentions(Issue issue, UUID authorId, String body) {
     if (body == null || body.isBlank()) {
       return;
     }
-    Matcher matcher = MENTION_PATTERN.matcher(body);
-    Set<String> emails = new HashSet<>();
-    while (matcher.find()) {
-      emails.add(matcher.group(1).toLowerCase());
-    }
-    if (emails.isEmpty()) {
-      return;
-    }
-    List<User> users = userRepository.findByEmailIgnoreCaseIn(emails);
-    if (users.isEmpty()) {
+    Set<UUID> userIds = mentionMatchers.get(issue.getWorkspaceId()).match(body);
+    if (userIds.isEmpty()) {
       return;
     }
-
-    List<WorkspaceMember> members = memberRepository.findByWorkspaceId(issue.getWorkspaceId());
-    Set<UUID> workspaceUsers = new HashSet<>();
-    for (WorkspaceMember member : members) {
-      workspaceUsers.add(member.getUser().getId());
-    }
-
-    for (User user : users) {
-      if (!workspaceUsers.contains(user.getId())) {
-        continue;
-      }
-      if (user.getId().equals(author.getUser().getId())) {
-        continue;
-      }
-      notificationService.createNotification(
-          user.getId(),
-          issue.getWorkspaceId(),
-          issue.getId(),
-          "mention",
-          "You were mentioned in issue \"" + issue.getTitle() + "\"");
-    }
+    notificationFanoutService.fanOut(
+        issue.getWorkspaceId(),
+        issue.getId(),
+        authorId,
+        "mention",
+        "You were mentioned in issue \"" + issue.getTitle() + "\"",
+        userIds);
   }
 
   private List<CommentResponse> mapComments(List<Comment> comments) {
@@ -175,4 +206,7 @@ public class CommentService {
     }
     return new UserSummary(user.getId().toString(), user.getName(), user.getEmail(), user.getAvatarUrl());
   }
+
+  public record CommentPage(
+      List<CommentResponse> comments, String prevCursor, String nextCursor, String latestCursor) {}
 }
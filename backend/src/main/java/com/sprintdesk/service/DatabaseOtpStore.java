@@ -0,0 +1,52 @@
+package com.sprintdesk.service;
+
+import com.sprintdesk.model.OtpCode;
+import com.sprintdesk.repository.OtpCodeRepository;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(
+    name = "app.security.otp-store",
+    havingValue = "database",
+    matchIfMissing = true)
+public class DatabaseOtpStore implements OtpStore {
+  /**
+   * Default store, shared by every instance. Issuing is one upsert and a successful verify is one
+   * conditional update; the row is only read back to explain a failure.
+   */
+  private final OtpCodeRepository otpCodeRepository;
+
+  public DatabaseOtpStore(OtpCodeRepository otpCodeRepository) {
+    this.otpCodeRepository = otpCodeRepository;
+  }
+
+  @Override
+  public void put(String email, String codeHash, Instant expiresAt) {
+    otpCodeRepository.upsert(UUID.randomUUID(), email, codeHash, expiresAt, Instant.now());
+  }
+
+  @Override
+  public Result consume(String email, String codeHash, Instant now) {
+    if (otpCodeRepository.consume(email, codeHash, now) > 0) {
+      return Result.CONSUMED;
+    }
+    Optional<OtpCode> stored = otpCodeRepository.findByEmail(email);
+    if (stored.isEmpty()) {
+      return Result.INVALID;
+    }
+    OtpCode otp = stored.get();
+    if (otp.getConsumedAt() != null || !otp.getExpiresAt().isAfter(now)) {
+      return Result.EXPIRED;
+    }
+    return Result.INVALID;
+  }
+
+  @Override
+  public int purgeExpired(Instant now) {
+    return otpCodeRepository.deleteExpired(now);
+  }
+}
@@ -13,17 +13,15 @@ import com.sprintdesk.model.WorkspaceRole;
 import com.sprintdesk.repository.ArticleRepository;
 import com.sprintdesk.repository.CommentRepository;
 import com.sprintdesk.repository.IssueRepository;
-import com.sprintdesk.repository.NotificationRepository;
 import com.sprintdesk.repository.ActivityRepository;
 import com.sprintdesk.repository.WorkspaceMemberRepository;
 import com.sprintdesk.repository.WorkspaceRepository;
 import com.sprintdesk.repository.WorkspaceInviteRepository;
 import com.sprintdesk.repository.UserRepository;
+import com.sprintdesk.security.PasswordHashingService;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
-import java.util.stream.Collectors;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,10 +41,13 @@ public class DemoService {
   private final ArticleRepository articleRepository;
   private final CommentRepository commentRepository;
   private final ActivityRepository activityRepository;
-  private final NotificationRepository notificationRepository;
+  private final NotificationService notificationService;
+  private final RelatedArticleCache relatedArticleCache;
   private final WorkspaceInviteRepository inviteRepository;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingService passwordHashing;
   private final DemoProperties demoProperties;
+  private final ArticleSuggestionIndex suggestionIndex;
+  private final MentionMatcherCache mentionMatchers;
 
   public DemoService(
       UserRepository userRepository,
@@ -56,10 +57,13 @@ public class DemoService {
       ArticleRepository articleRepository,
       CommentRepository commentRepository,
       ActivityRepository activityRepository,
-      NotificationRepository notificationRepository,
+      NotificationService notificationService,
+      RelatedArticleCache relatedArticleCache,
       WorkspaceInviteRepository inviteRepository,
-      PasswordEncoder passwordEncoder,
-      DemoProperties demoProperties) {
+      PasswordHashingService passwordHashing,
+      DemoProperties demoProperties,
+      ArticleSuggestionIndex suggestionIndex,
+      MentionMatcherCache mentionMatchers) {
     this.userRepository = userRepository;
     this.workspaceRepository = workspaceRepository;
     this.memberRepository = memberRepository;
@@ -67,10 +71,13 @@ public class DemoService {
     this.articleRepository = articleRepository;
     this.commentRepository = commentRepository;
     this.activityRepository = activityRepository;
-    this.notificationRepository = notificationRepository;
+    this.notificationService = notificationService;
+    this.relatedArticleCache = relatedArticleCache;
     this.inviteRepository = inviteRepository;
-    this.passwordEncoder = passwordEncoder;
+    this.passwordHashing = passwordHashing;
     this.demoProperties = demoProperties;
+    this.suggestionIndex = suggestionIndex;
+    this.mentionMatchers = mentionMatchers;
   }
 
   public boolean isEnabled() {
@@ -101,12 +108,17 @@ public class DemoService {
     workspace.setOwnerId(users.owner().getId());
     workspaceRepository.save(workspace);
 
-    saveMembership(workspace, users.owner(), WorkspaceRole.OWNER);
-    saveMembership(workspace, users.member(), WorkspaceRole.MEMBER);
+    // Rows are built first and saved per table so Hibernate can send each table as one JDBC batch.
+    memberRepository.saveAll(
+        List.of(
+            membership(workspace, users.owner(), WorkspaceRole.OWNER),
+            membership(workspace, users.member(), WorkspaceRole.MEMBER)));
+    mentionMatchers.invalidate(workspace.getId());
 
-    Issue issueOne = createIssue(workspace, users.owner(), "First demo issue", IssueStatus.OPEN, IssuePriority.HIGH, users.member().getId());
-    Issue issueTwo = createIssue(workspace, users.member(), "Payment webhook failing", IssueStatus.IN_PROGRESS, IssuePriority.MEDIUM, users.owner().getId());
-    Issue issueThree = createIssue(workspace, users.owner(), "Update FAQ", IssueStatus.DONE, IssuePriority.LOW, null);
+    Issue issueOne = newIssue(workspace, users.owner(), "First demo issue", IssueStatus.OPEN, IssuePriority.HIGH, users.member().getId());
+    Issue issueTwo = newIssue(workspace, users.member(), "Payment webhook failing", IssueStatus.IN_PROGRESS, IssuePriority.MEDIUM, users.owner().getId());
+    Issue issueThree = newIssue(workspace, users.owner(), "Update FAQ", IssueStatus.DONE, IssuePriority.LOW, null);
+    issueRepository.saveAll(List.of(issueOne, issueTwo, issueThree));
 
     Article article = new Article();
     workspace.setKbCounter(workspace.getKbCounter() + 1);
@@ -121,9 +133,11 @@ public class DemoService {
 
     workspaceRepository.save(workspace);
 
-    addComment(issueOne, users.owner(), "Created demo issue. Let's fix it quickly.");
-    addComment(issueTwo, users.member(), "Investigating logs now.");
-    addComment(issueThree, users.owner(), "Marked as done.");
+    commentRepository.saveAll(
+        List.of(
+            newComment(issueOne, users.owner(), "Created demo issue. Let's fix it quickly."),
+            newComment(issueTwo, users.member(), "Investigating logs now."),
+            newComment(issueThree, users.owner(), "Marked as done.")));
   }
 
   private void clearWorkspaceData(UUID workspaceId, DemoUsers users) {
@@ -131,15 +145,12 @@ public class DemoService {
     memberRepository.deleteByWorkspace_Id(workspaceId);
     activityRepository.deleteByWorkspaceId(workspaceId);
     articleRepository.deleteByWorkspaceId(workspaceId);
-
-    List<Issue> issues = issueRepository.findByWorkspaceId(workspaceId);
-    List<UUID> issueIds = issues.stream().map(Issue::getId).collect(Collectors.toList());
-    if (!issueIds.isEmpty()) {
-      commentRepository.deleteByIssueIdIn(issueIds);
-    }
+    commentRepository.deleteByIssueWorkspaceId(workspaceId);
     issueRepository.deleteByWorkspaceId(workspaceId);
+    suggestionIndex.invalidateWorkspace(workspaceId);
+    relatedArticleCache.clear();
 
-    notificationRepository.deleteByUserIdIn(List.of(users.owner().getId(), users.member().getId()));
+    notificationService.deleteForUsers(List.of(users.owner().getId(), users.member().getId()));
   }
 
   private User createUser(String email, String name, Role role) {
@@ -147,11 +158,11 @@ public class DemoService {
     user.setEmail(email.toLowerCase(Locale.ROOT));
     user.setName(name);
     user.setRole(role);
-    user.setPasswordHash(passwordEncoder.encode(DEMO_PASSWORD));
+    user.setPasswordHash(passwordHashing.encode(DEMO_PASSWORD));
     return userRepository.save(user);
   }
 
-  private Issue createIssue(
+  private Issue newIssue(
       Workspace workspace,
       User creator,
       String title,
@@ -168,25 +179,25 @@ public class DemoService {
     issue.setDescription("Seeded demo issue for " + title);
     issue.setStatus(status);
     issue.setPriority(priority);
-    return issueRepository.save(issue);
+    return issue;
   }
 
-  private void addComment(Issue issue, User user, String body) {
+  private com.sprintdesk.model.Comment newComment(Issue issue, User user, String body) {
     com.sprintdesk.model.Comment comment = new com.sprintdesk.model.Comment();
     comment.setIssueId(issue.getId());
     comment.setUserId(user.getId());
     comment.setBody(body);
     comment.setInternal(false);
-    commentRepository.save(comment);
+    return comment;
   }
 
-  private void saveMembership(Workspace workspace, User user, WorkspaceRole role) {
+  private WorkspaceMember membership(Workspace workspace, User user, WorkspaceRole role) {
     WorkspaceMember member = memberRepository.findByWorkspaceIdAndUserId(workspace.getId(), user.getId())
         .orElseGet(WorkspaceMember::new);
     member.setWorkspace(workspace);
     member.setUser(user);
     member.setRole(role);
-    memberRepository.save(member);
+    return member;
   }
 
   public record DemoUsers(User owner, User member) {}
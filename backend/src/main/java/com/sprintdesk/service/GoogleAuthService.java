@@ -1,22 +1,71 @@
 package com.sprintdesk.service;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sprintdesk.security.GoogleKeyCache;
 import com.sprintdesk.security.SecurityProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SecurityException;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class GoogleAuthService {
   /**
-   * Validates Google ID tokens using the tokeninfo endpoint.
+   * Validates Google ID tokens locally against Google's cached signing keys. The tokeninfo
+   * endpoint is only used when no key set can be loaded, behind a timeout and a circuit breaker.
    */
+  private static final Logger log = LoggerFactory.getLogger(GoogleAuthService.class);
+  private static final Set<String> ISSUERS =
+      Set.of("accounts.google.com", "https://accounts.google.com");
+
   private final SecurityProperties securityProperties;
-  private final RestTemplate restTemplate = new RestTemplate();
+  private final JwtParser parser;
+  private final RestTemplate restTemplate;
+  private final CircuitBreaker tokeninfoBreaker;
 
-  public GoogleAuthService(SecurityProperties securityProperties) {
+  public GoogleAuthService(SecurityProperties securityProperties, GoogleKeyCache keyCache) {
     this.securityProperties = securityProperties;
+    this.parser =
+        Jwts.parserBuilder()
+            .setSigningKeyResolver(
+                new SigningKeyResolverAdapter() {
+                  // jjwt 0.11 declares this parameter as a raw JwsHeader; a JwsHeader<?> would
+                  // not override it.
+                  @Override
+                  @SuppressWarnings("rawtypes")
+                  public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                    if (!"RS256".equals(header.getAlgorithm())) {
+                      throw new SecurityException("Unexpected signing algorithm");
+                    }
+                    return keyCache
+                        .key(header.getKeyId())
+                        .orElseThrow(() -> new SecurityException("Unknown signing key"));
+                  }
+                })
+            .setAllowedClockSkewSeconds(60)
+            .build();
+    SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+    requestFactory.setConnectTimeout((int) securityProperties.getGoogleHttpTimeoutMs());
+    requestFactory.setReadTimeout((int) securityProperties.getGoogleHttpTimeoutMs());
+    this.restTemplate = new RestTemplate(requestFactory);
+    this.tokeninfoBreaker =
+        new CircuitBreaker(
+            securityProperties.getGoogleBreakerFailures(),
+            Duration.ofSeconds(securityProperties.getGoogleBreakerOpenSeconds()));
   }
 
   public GoogleProfile verify(String idToken) {
@@ -29,29 +78,71 @@ public class GoogleAuthService {
       throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Missing credential");
     }
 
+    Claims claims;
+    try {
+      claims = parser.parseClaimsJws(idToken).getBody();
+    } catch (GoogleKeyCache.KeysUnavailableException ex) {
+      return verifyRemotely(idToken);
+    } catch (JwtException | IllegalArgumentException ex) {
+      throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid Google credential");
+    }
+
+    if (!ISSUERS.contains(claims.getIssuer())) {
+      throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid Google credential");
+    }
+    return toProfile(
+        claims.getAudience(),
+        claims.get("email", String.class),
+        claims.containsKey("email_verified") ? claims.get("email_verified").toString() : null,
+        claims.get("name", String.class),
+        claims.get("picture", String.class));
+  }
+
+  private GoogleProfile verifyRemotely(String idToken) {
     GoogleTokenInfo info;
     try {
-      info =
-          restTemplate.getForObject(
-              "https://oauth2.googleapis.com/tokeninfo?id_token={token}",
-              GoogleTokenInfo.class,
-              idToken);
-    } catch (RestClientException ex) {
+      info = tokeninfoBreaker.call(() -> fetchTokenInfo(idToken));
+    } catch (CircuitBreaker.OpenException ex) {
+      throw new ResponseStatusException(
+          HttpStatus.SERVICE_UNAVAILABLE, "Google sign-in temporarily unavailable");
+    } catch (RuntimeException ex) {
+      log.warn("Google tokeninfo fallback failed", ex);
+      throw new ResponseStatusException(
+          HttpStatus.SERVICE_UNAVAILABLE, "Google sign-in temporarily unavailable");
+    }
+    if (info == null) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid Google credential");
     }
+    return toProfile(info.aud(), info.email(), info.emailVerified(), info.name(), info.picture());
+  }
+
+  /**
+   * Null when Google rejects the token. Only timeouts and server errors reach the breaker.
+   */
+  private GoogleTokenInfo fetchTokenInfo(String idToken) {
+    try {
+      return restTemplate.getForObject(
+          securityProperties.getGoogleTokeninfoUrl() + "?id_token={token}",
+          GoogleTokenInfo.class,
+          idToken);
+    } catch (HttpClientErrorException ex) {
+      return null;
+    }
+  }
 
-    if (info == null
-        || info.email() == null
-        || info.aud() == null
-        || !securityProperties.getGoogleClientId().equals(info.aud())) {
+  private GoogleProfile toProfile(
+      String audience, String email, String emailVerified, String name, String picture) {
+    if (email == null
+        || audience == null
+        || !securityProperties.getGoogleClientId().equals(audience)) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid Google credential");
     }
 
-    if (info.emailVerified() != null && !"true".equalsIgnoreCase(info.emailVerified())) {
+    if (emailVerified != null && !"true".equalsIgnoreCase(emailVerified)) {
       throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Email not verified");
     }
 
-    return new GoogleProfile(info.email(), info.name(), info.picture());
+    return new GoogleProfile(email, name, picture);
   }
 
   public record GoogleProfile(String email, String name, String avatarUrl) {}
@@ -59,7 +150,7 @@ public class GoogleAuthService {
   private record GoogleTokenInfo(
       String aud,
       String email,
-      String emailVerified,
+      @JsonProperty("email_verified") String emailVerified,
       String name,
       String picture) {}
 }
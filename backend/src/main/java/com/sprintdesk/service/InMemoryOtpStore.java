@@ -0,0 +1,97 @@
+package com.sprintdesk.service;
+
+import com.sprintdesk.security.SecurityProperties;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "app.security.otp-store", havingValue = "memory")
+public class InMemoryOtpStore implements OtpStore {
+  /**
+   * Single-instance store with no database round trips. Codes live in a map and are also filed
+   * in a hashed timer wheel by expiry tick, so a sweep only visits the slots that came due instead
+   * of scanning every code. Codes are lost on restart; users simply request a new one.
+   */
+  private static final int WHEEL_SLOTS = 512;
+
+  private final Map<String, Entry> codes = new ConcurrentHashMap<>();
+  private final List<ConcurrentLinkedQueue<Entry>> wheel;
+  private final long tickMillis;
+  private long sweptTick;
+
+  public InMemoryOtpStore(SecurityProperties properties) {
+    this.tickMillis = Math.max(properties.getOtpSweepIntervalMs(), 100);
+    this.wheel = new ArrayList<>(WHEEL_SLOTS);
+    for (int i = 0; i < WHEEL_SLOTS; i++) {
+      wheel.add(new ConcurrentLinkedQueue<>());
+    }
+    this.sweptTick = tick(System.currentTimeMillis()) - 1;
+  }
+
+  @Override
+  public void put(String email, String codeHash, Instant expiresAt) {
+    Entry entry = new Entry(email, codeHash, expiresAt);
+    codes.put(email, entry);
+    // Round up so an entry is never swept before it has expired.
+    long expiryTick = tick(expiresAt.toEpochMilli()) + 1;
+    wheel.get(slot(expiryTick)).add(entry);
+  }
+
+  @Override
+  public Result consume(String email, String codeHash, Instant now) {
+    Entry entry = codes.get(email);
+    if (entry == null) {
+      return Result.INVALID;
+    }
+    if (!entry.expiresAt().isAfter(now)) {
+      return Result.EXPIRED;
+    }
+    if (!entry.codeHash().equals(codeHash)) {
+      return Result.INVALID;
+    }
+    // remove(key, value) fails if the code was used or replaced concurrently.
+    return codes.remove(email, entry) ? Result.CONSUMED : Result.EXPIRED;
+  }
+
+  /**
+   * Advance the wheel to {@code now}, dropping codes in each slot that came due. Entries in a slot
+   * whose expiry is a later lap around the wheel are left in place.
+   */
+  @Override
+  public synchronized int purgeExpired(Instant now) {
+    long nowTick = tick(now.toEpochMilli());
+    long from = Math.max(sweptTick + 1, nowTick - WHEEL_SLOTS + 1);
+    int removed = 0;
+    for (long t = from; t <= nowTick; t++) {
+      Iterator<Entry> slot = wheel.get(slot(t)).iterator();
+      while (slot.hasNext()) {
+        Entry entry = slot.next();
+        if (!entry.expiresAt().isAfter(now)) {
+          slot.remove();
+          if (codes.remove(entry.email(), entry)) {
+            removed++;
+          }
+        }
+      }
+    }
+    sweptTick = nowTick;
+    return removed;
+  }
+
+  private long tick(long epochMillis) {
+    return epochMillis / tickMillis;
+  }
+
+  private static int slot(long tick) {
+    return (int) Math.floorMod(tick, (long) WHEEL_SLOTS);
+  }
+
+  private record Entry(String email, String codeHash, Instant expiresAt) {}
+}
@@ -1,16 +1,21 @@
 package com.sprintdesk.service;
 
+import com.sprintdesk.dto.ArticleSuggestion;
 import com.sprintdesk.dto.CreateIssueRequest;
 import com.sprintdesk.dto.IssueResponse;
 import com.sprintdesk.dto.IssueUpdateCommand;
 import com.sprintdesk.dto.UserSummary;
+import com.sprintdesk.metrics.PhaseTracer;
 import com.sprintdesk.model.Issue;
+import com.sprintdesk.model.IssueLastActivity;
 import com.sprintdesk.model.IssuePriority;
 import com.sprintdesk.model.IssueStatus;
 import com.sprintdesk.model.User;
 import com.sprintdesk.model.Workspace;
 import com.sprintdesk.model.WorkspaceMember;
 import com.sprintdesk.model.WorkspaceRole;
+import com.sprintdesk.repository.ArticleRepository;
+import com.sprintdesk.repository.IssueLastActivityRepository;
 import com.sprintdesk.repository.IssueRepository;
 import com.sprintdesk.repository.UserRepository;
 import com.sprintdesk.repository.WorkspaceMemberRepository;
@@ -31,6 +36,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
@@ -46,6 +52,11 @@ public class IssueService {
   private final ActivityService activityService;
   private final NotificationService notificationService;
   private final RealtimeService realtimeService;
+  private final RelatedArticleCache relatedArticleCache;
+  private final ArticleRepository articleRepository;
+  private final ArticleSuggestionIndex suggestionIndex;
+  private final IssueLastActivityRepository lastActivityRepository;
+  private final PhaseTracer phaseTracer;
 
   public IssueService(
       IssueRepository issueRepository,
@@ -55,7 +66,12 @@ public class IssueService {
       WorkspaceService workspaceService,
       ActivityService activityService,
       NotificationService notificationService,
-      RealtimeService realtimeService) {
+      RealtimeService realtimeService,
+      RelatedArticleCache relatedArticleCache,
+      ArticleRepository articleRepository,
+      ArticleSuggestionIndex suggestionIndex,
+      IssueLastActivityRepository lastActivityRepository,
+      PhaseTracer phaseTracer) {
     this.issueRepository = issueRepository;
     this.workspaceRepository = workspaceRepository;
     this.memberRepository = memberRepository;
@@ -64,8 +80,14 @@ public class IssueService {
     this.activityService = activityService;
     this.notificationService = notificationService;
     this.realtimeService = realtimeService;
+    this.relatedArticleCache = relatedArticleCache;
+    this.articleRepository = articleRepository;
+    this.suggestionIndex = suggestionIndex;
+    this.lastActivityRepository = lastActivityRepository;
+    this.phaseTracer = phaseTracer;
   }
 
+  @Transactional(readOnly = true)
   public IssuePageResult listIssues(UUID workspaceId, UUID userId, IssueFilter filter) {
     workspaceService.requireMember(workspaceId, userId);
 
@@ -109,187 +131,228 @@ public class IssueService {
         issueRepository
             .findByIdAndWorkspaceId(issueId, workspaceId)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Issue not found"));
-    return mapIssue(issue, loadUsers(issue));
+    return mapIssue(issue, loadUsers(issue), loadLastActivity(issue));
   }
 
-  public IssueResponse createIssue(UUID workspaceId, UUID userId, CreateIssueRequest request) {
-    WorkspaceMember member = workspaceService.requireMember(workspaceId, userId);
-    workspaceService.requireRole(member, WorkspaceRole.OWNER, WorkspaceRole.ADMIN, WorkspaceRole.MEMBER);
+  /**
+   * Knowledge base articles that match the issue's title and description, excluding articles
+   * already linked to it.
+   */
+  public List<ArticleSuggestion> suggestArticles(
+      UUID workspaceId, UUID userId, UUID issueId, int limit) {
+    workspaceService.requireMember(workspaceId, userId);
+    Issue issue =
+        issueRepository
+            .findByIdAndWorkspaceId(issueId, workspaceId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Issue not found"));
+    List<UUID> linked =
+        relatedArticleCache.get(issueId, articleRepository::findArticleIdsByLinkedIssueId);
+    String text = issue.getTitle() + "\n" + issue.getDescription();
+    return suggestionIndex.suggest(workspaceId, text, new HashSet<>(linked), limit).stream()
+        .map(
+            match ->
+                new ArticleSuggestion(
+                    match.articleId().toString(), match.kbId(), match.title(), match.score()))
+        .toList();
+  }
 
-    Workspace workspace =
-        workspaceRepository
-            .findById(workspaceId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Workspace not found"));
-
-    workspace.setIssueCounter(workspace.getIssueCounter() + 1);
-    workspaceRepository.save(workspace);
-
-    Issue issue = new Issue();
-    issue.setWorkspaceId(workspaceId);
-    issue.setCreatedBy(userId);
-    issue.setTicketId(workspace.getKey() + "-" + workspace.getIssueCounter());
-    issue.setTitle(request.title().trim());
-    issue.setDescription(request.description() == null ? "" : request.description());
-
-    IssueStatus status = parseStatus(request.status()).orElse(IssueStatus.OPEN);
-    IssuePriority priority = parsePriority(request.priority()).orElse(IssuePriority.MEDIUM);
-    issue.setStatus(status);
-    issue.setPriority(priority);
-    issue.setLabels(request.labels());
-
-    if (request.dueDate() != null && !request.dueDate().isBlank()) {
-      issue.setDueDate(parseInstant(request.dueDate()));
-    }
+  public IssueResponse createIssue(UUID workspaceId, UUID userId, CreateIssueRequest request) {
+    try (PhaseTracer.Trace trace = phaseTracer.start("issue.create")) {
+      trace.phase("membership");
+      WorkspaceMember member = workspaceService.requireMember(workspaceId, userId);
+      workspaceService.requireRole(member, WorkspaceRole.OWNER, WorkspaceRole.ADMIN, WorkspaceRole.MEMBER);
+
+      trace.phase("workspace");
+      Workspace workspace =
+          workspaceRepository
+              .findById(workspaceId)
+              .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Workspace not found"));
+
+      workspace.setIssueCounter(workspace.getIssueCounter() + 1);
+      workspaceRepository.save(workspace);
+
+      Issue issue = new Issue();
+      issue.setWorkspaceId(workspaceId);
+      issue.setCreatedBy(userId);
+      issue.setTicketId(workspace.getKey() + "-" + workspace.getIssueCounter());
+      issue.setTitle(request.title().trim());
+      issue.setDescription(request.description() == null ? "" : request.description());
+
+      IssueStatus status = parseStatus(request.status()).orElse(IssueStatus.OPEN);
+      IssuePriority priority = parsePriority(request.priority()).orElse(IssuePriority.MEDIUM);
+      issue.setStatus(status);
+      issue.setPriority(priority);
+      issue.setLabels(request.labels());
+
+      if (request.dueDate() != null && !request.dueDate().isBlank()) {
+        issue.setDueDate(parseInstant(request.dueDate()));
+      }
 
-    if (request.assigneeId() != null && !request.assigneeId().isBlank()) {
-      UUID assigneeId = parseUuid(request.assigneeId(), "Invalid assignee id");
-      ensureMember(workspaceId, assigneeId);
-      issue.setAssigneeId(assigneeId);
-    }
+      if (request.assigneeId() != null && !request.assigneeId().isBlank()) {
+        UUID assigneeId = parseUuid(request.assigneeId(), "Invalid assignee id");
+        ensureMember(workspaceId, assigneeId);
+        issue.setAssigneeId(assigneeId);
+      }
 
-    Issue saved = issueRepository.save(issue);
+      trace.phase("save");
+      Issue saved = issueRepository.save(issue);
 
-    activityService.logActivity(
-        workspaceId,
-        userId,
-        saved.getId(),
-        "issue_created",
-        Map.of("title", saved.getTitle()));
-
-    realtimeService.publishWorkspaceEvent(
-        workspaceId.toString(),
-        "issue_created",
-        Map.of("issueId", saved.getId().toString(), "title", saved.getTitle(), "actorId", userId.toString()));
-
-    if (saved.getAssigneeId() != null && !saved.getAssigneeId().equals(userId)) {
-      notificationService.createNotification(
-          saved.getAssigneeId(),
+      trace.phase("activity");
+      activityService.logActivity(
           workspaceId,
+          userId,
           saved.getId(),
-          "assigned",
-          "You were assigned to issue \"" + saved.getTitle() + "\"");
-    }
+          "issue_created",
+          Map.of("title", saved.getTitle()));
+
+      trace.phase("realtime");
+      realtimeService.publishWorkspaceEvent(
+          workspaceId.toString(),
+          "issue_created",
+          Map.of("issueId", saved.getId().toString(), "title", saved.getTitle(), "actorId", userId.toString()));
+
+      trace.phase("notification");
+      if (saved.getAssigneeId() != null && !saved.getAssigneeId().equals(userId)) {
+        notificationService.createNotification(
+            saved.getAssigneeId(),
+            workspaceId,
+            saved.getId(),
+            "assigned",
+            "You were assigned to issue \"" + saved.getTitle() + "\"");
+      }
 
-    return mapIssue(saved, loadUsers(saved));
+      trace.phase("response");
+      return mapIssue(saved, loadUsers(saved), null);
+    }
   }
 
   public IssueResponse updateIssue(
       UUID workspaceId, UUID userId, UUID issueId, IssueUpdateCommand command) {
-    WorkspaceMember member = workspaceService.requireMember(workspaceId, userId);
-    workspaceService.requireRole(member, WorkspaceRole.OWNER, WorkspaceRole.ADMIN, WorkspaceRole.MEMBER);
-
-    Issue issue =
-        issueRepository
-            .findByIdAndWorkspaceId(issueId, workspaceId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Issue not found"));
-
-    String previousTitle = issue.getTitle();
-    String previousDescription = issue.getDescription();
-    IssueStatus previousStatus = issue.getStatus();
-    IssuePriority previousPriority = issue.getPriority();
-    UUID previousAssignee = issue.getAssigneeId();
-    List<String> previousLabels = new ArrayList<>(issue.getLabels());
-
-    if (command.hasTitle()) {
-      if (command.title() == null || command.title().isBlank()) {
-        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Title is required");
+    try (PhaseTracer.Trace trace = phaseTracer.start("issue.update")) {
+      trace.phase("membership");
+      WorkspaceMember member = workspaceService.requireMember(workspaceId, userId);
+      workspaceService.requireRole(member, WorkspaceRole.OWNER, WorkspaceRole.ADMIN, WorkspaceRole.MEMBER);
+
+      trace.phase("load");
+      Issue issue =
+          issueRepository
+              .findByIdAndWorkspaceId(issueId, workspaceId)
+              .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Issue not found"));
+
+      String previousTitle = issue.getTitle();
+      String previousDescription = issue.getDescription();
+      IssueStatus previousStatus = issue.getStatus();
+      IssuePriority previousPriority = issue.getPriority();
+      UUID previousAssignee = issue.getAssigneeId();
+      List<String> previousLabels = new ArrayList<>(issue.getLabels());
+
+      trace.phase("apply");
+      if (command.hasTitle()) {
+        if (command.title() == null || command.title().isBlank()) {
+          throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Title is required");
+        }
+        issue.setTitle(command.title().trim());
       }
-      issue.setTitle(command.title().trim());
-    }
-    if (command.hasDescription()) {
-      issue.setDescription(command.description() == null ? "" : command.description());
-    }
-    if (command.hasStatus()) {
-      if (command.status() == null) {
-        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status is required");
+      if (command.hasDescription()) {
+        issue.setDescription(command.description() == null ? "" : command.description());
       }
-      issue.setStatus(command.status());
-    }
-    if (command.hasPriority()) {
-      if (command.priority() == null) {
-        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Priority is required");
+      if (command.hasStatus()) {
+        if (command.status() == null) {
+          throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status is required");
+        }
+        issue.setStatus(command.status());
       }
-      issue.setPriority(command.priority());
-    }
-    if (command.hasLabels()) {
-      issue.setLabels(command.labels());
-    }
-    if (command.hasDueDate()) {
-      issue.setDueDate(command.dueDate());
-    }
-    if (command.hasAssigneeId()) {
-      UUID assigneeId = command.assigneeId();
-      if (assigneeId != null) {
-        ensureMember(workspaceId, assigneeId);
+      if (command.hasPriority()) {
+        if (command.priority() == null) {
+          throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Priority is required");
+        }
+        issue.setPriority(command.priority());
+      }
+      if (command.hasLabels()) {
+        issue.setLabels(command.labels());
+      }
+      if (command.hasDueDate()) {
+        issue.setDueDate(command.dueDate());
+      }
+      if (command.hasAssigneeId()) {
+        UUID assigneeId = command.assigneeId();
+        if (assigneeId != null) {
+          ensureMember(workspaceId, assigneeId);
+        }
+        issue.setAssigneeId(assigneeId);
       }
-      issue.setAssigneeId(assigneeId);
-    }
 
-    Issue saved = issueRepository.save(issue);
+      trace.phase("save");
+      Issue saved = issueRepository.save(issue);
 
-    List<String> fields = new ArrayList<>();
-    Map<String, Object> changes = new HashMap<>();
+      trace.phase("activity");
+      List<String> fields = new ArrayList<>();
+      Map<String, Object> changes = new HashMap<>();
 
-    if (command.hasTitle() && !previousTitle.equals(saved.getTitle())) {
-      fields.add("title");
-      changes.put("title", Map.of("from", previousTitle, "to", saved.getTitle()));
-    }
-    if (command.hasDescription() && !previousDescription.equals(saved.getDescription())) {
-      fields.add("description");
-    }
-    if (command.hasStatus() && previousStatus != saved.getStatus()) {
-      fields.add("status");
-      changes.put("status", Map.of("from", previousStatus.name(), "to", saved.getStatus().name()));
-    }
-    if (command.hasPriority() && previousPriority != saved.getPriority()) {
-      fields.add("priority");
-      changes.put("priority", Map.of("from", previousPriority.name(), "to", saved.getPriority().name()));
-    }
-    if (command.hasLabels() && !previousLabels.equals(saved.getLabels())) {
-      fields.add("labels");
-    }
-    if (command.hasAssigneeId() && (previousAssignee == null || !previousAssignee.equals(saved.getAssigneeId()))) {
-      fields.add("assigneeId");
-      Map<String, Object> assigneeChange = new HashMap<>();
-      assigneeChange.put("from", previousAssignee == null ? null : previousAssignee.toString());
-      assigneeChange.put("to", saved.getAssigneeId() == null ? null : saved.getAssigneeId().toString());
-      changes.put("assigneeId", assigneeChange);
-    }
-    if (command.hasDueDate()) {
-      fields.add("dueDate");
-    }
+      if (command.hasTitle() && !previousTitle.equals(saved.getTitle())) {
+        fields.add("title");
+        changes.put("title", Map.of("from", previousTitle, "to", saved.getTitle()));
+      }
+      if (command.hasDescription() && !previousDescription.equals(saved.getDescription())) {
+        fields.add("description");
+      }
+      if (command.hasStatus() && previousStatus != saved.getStatus()) {
+        fields.add("status");
+        changes.put("status", Map.of("from", previousStatus.name(), "to", saved.getStatus().name()));
+      }
+      if (command.hasPriority() && previousPriority != saved.getPriority()) {
+        fields.add("priority");
+        changes.put("priority", Map.of("from", previousPriority.name(), "to", saved.getPriority().name()));
+      }
+      if (command.hasLabels() && !previousLabels.equals(saved.getLabels())) {
+        fields.add("labels");
+      }
+      if (command.hasAssigneeId() && (previousAssignee == null || !previousAssignee.equals(saved.getAssigneeId()))) {
+        fields.add("assigneeId");
+        Map<String, Object> assigneeChange = new HashMap<>();
+        assigneeChange.put("from", previousAssignee == null ? null : previousAssignee.toString());
+        assigneeChange.put("to", saved.getAssigneeId() == null ? null : saved.getAssigneeId().toString());
+        changes.put("assigneeId", assigneeChange);
+      }
+      if (command.hasDueDate()) {
+        fields.add("dueDate");
+      }
 
-    if (!fields.isEmpty()) {
-      String action =
-          command.hasStatus() && saved.getStatus() == IssueStatus.DONE
-              ? "issue_resolved"
-              : "issue_updated";
-      activityService.logActivity(
-          workspaceId,
-          userId,
-          saved.getId(),
-          action,
-          Map.of("fields", fields, "changes", changes));
+      if (!fields.isEmpty()) {
+        String action =
+            command.hasStatus() && saved.getStatus() == IssueStatus.DONE
+                ? "issue_resolved"
+                : "issue_updated";
+        activityService.logActivity(
+            workspaceId,
+            userId,
+            saved.getId(),
+            action,
+            Map.of("fields", fields, "changes", changes));
+
+        trace.phase("realtime");
+        realtimeService.publishWorkspaceEvent(
+            workspaceId.toString(),
+            "issue_updated",
+            Map.of("issueId", saved.getId().toString(), "fields", fields, "actorId", userId.toString()));
+      }
 
-      realtimeService.publishWorkspaceEvent(
-          workspaceId.toString(),
-          "issue_updated",
-          Map.of("issueId", saved.getId().toString(), "fields", fields, "actorId", userId.toString()));
-    }
+      trace.phase("notification");
+      if (command.hasAssigneeId()
+          && saved.getAssigneeId() != null
+          && !saved.getAssigneeId().equals(previousAssignee)
+          && !saved.getAssigneeId().equals(userId)) {
+        notificationService.createNotification(
+            saved.getAssigneeId(),
+            workspaceId,
+            saved.getId(),
+            "assigned",
+            "You were assigned to issue \"" + saved.getTitle() + "\"");
+      }
 
-    if (command.hasAssigneeId()
-        && saved.getAssigneeId() != null
-        && !saved.getAssigneeId().equals(previousAssignee)
-        && !saved.getAssigneeId().equals(userId)) {
-      notificationService.createNotification(
-          saved.getAssigneeId(),
-          workspaceId,
-          saved.getId(),
-          "assigned",
-          "You were assigned to issue \"" + saved.getTitle() + "\"");
+      trace.phase("response");
+      return mapIssue(saved, loadUsers(saved), loadLastActivity(saved));
     }
-
-    return mapIssue(saved, loadUsers(saved));
   }
 
   public void deleteIssue(UUID workspaceId, UUID userId, UUID issueId) {
@@ -301,6 +364,7 @@ public class IssueService {
             .findByIdAndWorkspaceId(issueId, workspaceId)
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Issue not found"));
     issueRepository.delete(issue);
+    relatedArticleCache.invalidate(issueId);
 
     activityService.logActivity(
         workspaceId,
@@ -360,7 +424,21 @@ public class IssueService {
       return List.of();
     }
     Map<UUID, User> users = loadUsers(issues);
-    return issues.stream().map(issue -> mapIssue(issue, users)).toList();
+    Map<UUID, Instant> lastActivity = new HashMap<>();
+    for (IssueLastActivity activity :
+        lastActivityRepository.findByIssueIdIn(issues.stream().map(Issue::getId).toList())) {
+      lastActivity.put(activity.getIssueId(), activity.getLastActivityAt());
+    }
+    return issues.stream()
+        .map(issue -> mapIssue(issue, users, lastActivity.get(issue.getId())))
+        .toList();
+  }
+
+  private Instant loadLastActivity(Issue issue) {
+    return lastActivityRepository
+        .findById(issue.getId())
+        .map(IssueLastActivity::getLastActivityAt)
+        .orElse(null);
   }
 
   private Map<UUID, User> loadUsers(Issue issue) {
@@ -386,7 +464,10 @@ public class IssueService {
     return lookup;
   }
 
-  private IssueResponse mapIssue(Issue issue, Map<UUID, User> users) {
+  /**
+   * updatedAt reports the later of the last edit to the issue and its last comment.
+   */
+  private IssueResponse mapIssue(Issue issue, Map<UUID, User> users, Instant lastActivity) {
     UserSummary createdBy = toSummary(users.get(issue.getCreatedBy()));
     UserSummary assignee = toSummary(users.get(issue.getAssigneeId()));
     return new IssueResponse(
@@ -400,7 +481,10 @@ public class IssueService {
         assignee,
         createdBy,
         issue.getCreatedAt().toString(),
-        issue.getUpdatedAt().toString());
+        (lastActivity != null && lastActivity.isAfter(issue.getUpdatedAt())
+                ? lastActivity
+                : issue.getUpdatedAt())
+            .toString());
   }
 
   private UserSummary toSummary(User user) {
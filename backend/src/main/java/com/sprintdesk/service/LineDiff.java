@@ -0,0 +1,243 @@
+package com.sprintdesk.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Line-based diff using Myers' O(ND) algorithm. Lines keep their terminators so joining them
+ * reproduces the input exactly.
+ */
+public final class LineDiff {
+  public enum Op {
+    EQUAL,
+    INSERT,
+    DELETE
+  }
+
+  public record Edit(Op op, String line) {}
+
+  private static final byte OP_COPY = 1;
+  private static final byte OP_SKIP = 2;
+  private static final byte OP_INSERT = 3;
+
+  private LineDiff() {}
+
+  public static List<String> split(String text) {
+    List<String> lines = new ArrayList<>();
+    if (text == null || text.isEmpty()) {
+      return lines;
+    }
+    int start = 0;
+    for (int i = 0; i < text.length(); i++) {
+      if (text.charAt(i) == '\n') {
+        lines.add(text.substring(start, i + 1));
+        start = i + 1;
+      }
+    }
+    if (start < text.length()) {
+      lines.add(text.substring(start));
+    }
+    return lines;
+  }
+
+  /**
+   * Shortest edit script turning {@code a} into {@code b}, or null when it needs more than
+   * {@code maxEdits} inserted or deleted lines.
+   */
+  public static List<Edit> diff(List<String> a, List<String> b, int maxEdits) {
+    int prefix = 0;
+    while (prefix < a.size() && prefix < b.size() && a.get(prefix).equals(b.get(prefix))) {
+      prefix++;
+    }
+    int suffix = 0;
+    while (suffix < a.size() - prefix
+        && suffix < b.size() - prefix
+        && a.get(a.size() - 1 - suffix).equals(b.get(b.size() - 1 - suffix))) {
+      suffix++;
+    }
+
+    List<String> oldMiddle = a.subList(prefix, a.size() - suffix);
+    List<String> newMiddle = b.subList(prefix, b.size() - suffix);
+    List<Edit> middle = myers(oldMiddle, newMiddle, maxEdits);
+    if (middle == null) {
+      return null;
+    }
+
+    List<Edit> edits = new ArrayList<>(prefix + middle.size() + suffix);
+    for (int i = 0; i < prefix; i++) {
+      edits.add(new Edit(Op.EQUAL, a.get(i)));
+    }
+    edits.addAll(middle);
+    for (int i = a.size() - suffix; i < a.size(); i++) {
+      edits.add(new Edit(Op.EQUAL, a.get(i)));
+    }
+    return edits;
+  }
+
+  private static List<Edit> myers(List<String> a, List<String> b, int maxEdits) {
+    int n = a.size();
+    int m = b.size();
+    int max = Math.min(n + m, Math.max(maxEdits, 0));
+    int offset = max + 1;
+    int[] v = new int[2 * max + 3];
+    List<int[]> trace = new ArrayList<>();
+
+    for (int d = 0; d <= max; d++) {
+      trace.add(v.clone());
+      for (int k = -d; k <= d; k += 2) {
+        int x;
+        if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+          x = v[offset + k + 1];
+        } else {
+          x = v[offset + k - 1] + 1;
+        }
+        int y = x - k;
+        while (x < n && y < m && a.get(x).equals(b.get(y))) {
+          x++;
+          y++;
+        }
+        v[offset + k] = x;
+        if (x >= n && y >= m) {
+          return backtrack(a, b, trace, offset);
+        }
+      }
+    }
+    return null;
+  }
+
+  private static List<Edit> backtrack(
+      List<String> a, List<String> b, List<int[]> trace, int offset) {
+    List<Edit> edits = new ArrayList<>();
+    int x = a.size();
+    int y = b.size();
+    for (int d = trace.size() - 1; d >= 0; d--) {
+      int[] v = trace.get(d);
+      int k = x - y;
+      int prevK =
+          (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) ? k + 1 : k - 1;
+      int prevX = v[offset + prevK];
+      int prevY = prevX - prevK;
+      while (x > prevX && y > prevY) {
+        edits.add(new Edit(Op.EQUAL, a.get(x - 1)));
+        x--;
+        y--;
+      }
+      if (d > 0) {
+        if (x == prevX) {
+          edits.add(new Edit(Op.INSERT, b.get(y - 1)));
+        } else {
+          edits.add(new Edit(Op.DELETE, a.get(x - 1)));
+        }
+      }
+      x = prevX;
+      y = prevY;
+    }
+    Collections.reverse(edits);
+    return edits;
+  }
+
+  /**
+   * Compact form of an edit script: a sequence of COPY n (keep n old lines), SKIP n (drop n old
+   * lines) and INSERT n followed by n length-prefixed UTF-8 lines.
+   */
+  public static byte[] encode(List<Edit> edits) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      int i = 0;
+      while (i < edits.size()) {
+        Op op = edits.get(i).op();
+        int j = i;
+        while (j < edits.size() && edits.get(j).op() == op) {
+          j++;
+        }
+        switch (op) {
+          case EQUAL -> {
+            out.writeByte(OP_COPY);
+            out.writeInt(j - i);
+          }
+          case DELETE -> {
+            out.writeByte(OP_SKIP);
+            out.writeInt(j - i);
+          }
+          case INSERT -> {
+            out.writeByte(OP_INSERT);
+            out.writeInt(j - i);
+            for (int k = i; k < j; k++) {
+              byte[] line = edits.get(k).line().getBytes(StandardCharsets.UTF_8);
+              out.writeInt(line.length);
+              out.write(line);
+            }
+          }
+        }
+        i = j;
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Applies an {@link #encode encoded} script to the text it was computed from. A script that
+   * reads past the end of {@code previous} or leaves old lines unaccounted for was made against
+   * different text, so it throws rather than returning a corrupted result.
+   */
+  public static String apply(String previous, byte[] delta) {
+    List<String> lines = split(previous);
+    StringBuilder result = new StringBuilder(previous == null ? 0 : previous.length());
+    int cursor = 0;
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta))) {
+      while (in.available() > 0) {
+        byte op = in.readByte();
+        int count = in.readInt();
+        if (count < 0) {
+          throw new IllegalStateException("Negative line count " + count + " in delta");
+        }
+        if (op == OP_COPY || op == OP_SKIP) {
+          if (count > lines.size() - cursor) {
+            throw new IllegalStateException(
+                "Delta needs lines "
+                    + cursor
+                    + ".."
+                    + (cursor + count)
+                    + " but the base text has "
+                    + lines.size());
+          }
+          if (op == OP_COPY) {
+            for (int i = 0; i < count; i++) {
+              result.append(lines.get(cursor + i));
+            }
+          }
+          cursor += count;
+        } else if (op == OP_INSERT) {
+          for (int i = 0; i < count; i++) {
+            int length = in.readInt();
+            if (length < 0 || length > in.available()) {
+              throw new IllegalStateException("Inserted line length " + length + " out of range");
+            }
+            byte[] line = new byte[length];
+            in.readFully(line);
+            result.append(new String(line, StandardCharsets.UTF_8));
+          }
+        } else {
+          throw new IllegalStateException("Unknown delta op " + op);
+        }
+      }
+    } catch (IOException ex) {
+      throw new IllegalStateException("Truncated delta", ex);
+    }
+    if (cursor != lines.size()) {
+      throw new IllegalStateException(
+          "Delta covers " + cursor + " of " + lines.size() + " base lines");
+    }
+    return result.toString();
+  }
+}
@@ -0,0 +1,241 @@
+package com.sprintdesk.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Aho-Corasick automaton over a workspace's mention handles ({@code @email} and {@code @name}).
+ * A single pass over a comment body finds every member mentioned, matching case-insensitively and
+ * only where the handle is not part of a longer word or address.
+ */
+public final class MentionMatcher {
+  private static final MentionMatcher EMPTY = new MentionMatcher(Map.of());
+
+  // Trie used while building; compiled into the flat arrays below.
+  private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+  private final List<Integer> failureList = new ArrayList<>();
+  private final List<Integer> outputList = new ArrayList<>();
+  private final List<Integer> patternList = new ArrayList<>();
+  private final List<Integer> patternLengths = new ArrayList<>();
+  private final List<UUID> owners = new ArrayList<>();
+
+  // Edges of node n are edgeChars/edgeTargets[edgeStart[n] .. edgeStart[n + 1]), sorted by char.
+  private int[] edgeStart;
+  private char[] edgeChars;
+  private int[] edgeTargets;
+  private int[] failure;
+  private int[] outputLink;
+  private int[] patternAt;
+
+  private MentionMatcher(Map<String, UUID> handles) {
+    addNode();
+    for (Map.Entry<String, UUID> entry : handles.entrySet()) {
+      insert("@" + entry.getKey(), entry.getValue());
+    }
+    buildLinks();
+    compile();
+  }
+
+  public static MentionMatcher empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Build a matcher from member handles. Handles are case-folded the same way {@link #match}
+   * folds text; a handle claimed by more than one member is ambiguous and dropped.
+   */
+  public static MentionMatcher of(List<Handle> handles) {
+    Map<String, UUID> unique = new HashMap<>();
+    Set<String> ambiguous = new LinkedHashSet<>();
+    for (Handle handle : handles) {
+      if (handle.value() == null || handle.value().isBlank()) {
+        continue;
+      }
+      String key = fold(handle.value());
+      UUID previous = unique.putIfAbsent(key, handle.userId());
+      if (previous != null && !previous.equals(handle.userId())) {
+        ambiguous.add(key);
+      }
+    }
+    ambiguous.forEach(unique::remove);
+    return unique.isEmpty() ? EMPTY : new MentionMatcher(unique);
+  }
+
+  public Set<UUID> match(String text) {
+    Set<UUID> users = new LinkedHashSet<>();
+    if (text == null || text.isEmpty() || owners.isEmpty()) {
+      return users;
+    }
+    int state = 0;
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      if (state == 0) {
+        // Every handle starts with '@', so skip straight to the next one.
+        int at = text.indexOf('@', i);
+        if (at < 0) {
+          break;
+        }
+        i = at;
+      }
+      char c = fold(text.charAt(i));
+      int next = step(state, c);
+      while (next < 0 && state != 0) {
+        state = failure[state];
+        next = step(state, c);
+      }
+      state = next < 0 ? 0 : next;
+
+      int node = patternAt[state] >= 0 ? state : outputLink[state];
+      while (node > 0) {
+        int pattern = patternAt[node];
+        int start = i - patternLengths.get(pattern) + 1;
+        if (startsMention(text, start) && endsMention(text, i + 1)) {
+          users.add(owners.get(pattern));
+        }
+        node = outputLink[node];
+      }
+    }
+    return users;
+  }
+
+  private int step(int state, char c) {
+    int low = edgeStart[state];
+    int high = edgeStart[state + 1] - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      char key = edgeChars[mid];
+      if (key < c) {
+        low = mid + 1;
+      } else if (key > c) {
+        high = mid - 1;
+      } else {
+        return edgeTargets[mid];
+      }
+    }
+    return -1;
+  }
+
+  private void insert(String pattern, UUID userId) {
+    int state = 0;
+    for (int i = 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      Integer next = transitions.get(state).get(c);
+      if (next == null) {
+        next = addNode();
+        transitions.get(state).put(c, next);
+      }
+      state = next;
+    }
+    patternList.set(state, owners.size());
+    patternLengths.add(pattern.length());
+    owners.add(userId);
+  }
+
+  private int addNode() {
+    transitions.add(new HashMap<>());
+    failureList.add(0);
+    outputList.add(0);
+    patternList.add(-1);
+    return transitions.size() - 1;
+  }
+
+  private void buildLinks() {
+    Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+        char c = edge.getKey();
+        int child = edge.getValue();
+        int fallback = failureList.get(state);
+        while (fallback != 0 && !transitions.get(fallback).containsKey(c)) {
+          fallback = failureList.get(fallback);
+        }
+        int target = transitions.get(fallback).getOrDefault(c, 0);
+        failureList.set(child, target == child ? 0 : target);
+        int link = failureList.get(child);
+        outputList.set(child, patternList.get(link) >= 0 ? link : outputList.get(link));
+        queue.add(child);
+      }
+    }
+  }
+
+  private void compile() {
+    int nodes = transitions.size();
+    int edges = 0;
+    for (Map<Character, Integer> node : transitions) {
+      edges += node.size();
+    }
+    edgeStart = new int[nodes + 1];
+    edgeChars = new char[edges];
+    edgeTargets = new int[edges];
+    failure = new int[nodes];
+    outputLink = new int[nodes];
+    patternAt = new int[nodes];
+    int offset = 0;
+    for (int n = 0; n < nodes; n++) {
+      edgeStart[n] = offset;
+      List<Character> keys = new ArrayList<>(transitions.get(n).keySet());
+      Collections.sort(keys);
+      for (char key : keys) {
+        edgeChars[offset] = key;
+        edgeTargets[offset] = transitions.get(n).get(key);
+        offset++;
+      }
+      failure[n] = failureList.get(n);
+      outputLink[n] = outputList.get(n);
+      patternAt[n] = patternList.get(n);
+    }
+    edgeStart[nodes] = offset;
+    transitions.clear();
+  }
+
+  /**
+   * Locale-independent, one char to one char, so a folded handle and folded text line up;
+   * {@code String.toLowerCase} can change the length (U+0130 becomes two chars) and depends on
+   * the default locale.
+   */
+  private static String fold(String value) {
+    char[] chars = value.toCharArray();
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = fold(chars[i]);
+    }
+    return new String(chars);
+  }
+
+  private static char fold(char c) {
+    return Character.toLowerCase(c);
+  }
+
+  private static boolean startsMention(String text, int start) {
+    return start == 0 || !isHandleChar(text.charAt(start - 1));
+  }
+
+  /**
+   * A handle ends at the end of the text or before a character that cannot continue it. A
+   * trailing period only counts as punctuation when it is not followed by more of an address.
+   */
+  private static boolean endsMention(String text, int end) {
+    if (end >= text.length()) {
+      return true;
+    }
+    char next = text.charAt(end);
+    if (next == '.') {
+      return end + 1 >= text.length() || !Character.isLetterOrDigit(text.charAt(end + 1));
+    }
+    return !isHandleChar(next) && next != '@';
+  }
+
+  private static boolean isHandleChar(char c) {
+    return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '+' || c == '.';
+  }
+
+  public record Handle(String value, UUID userId) {}
+}
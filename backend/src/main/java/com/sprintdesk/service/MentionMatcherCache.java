@@ -0,0 +1,61 @@
+package com.sprintdesk.service;
+
+import com.sprintdesk.metrics.CacheMetrics;
+import com.sprintdesk.repository.WorkspaceMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MentionMatcherCache {
+  /**
+   * One mention matcher per workspace for the most recently active workspaces, rebuilt after
+   * membership or profile changes commit.
+   */
+  private static final int MAX_WORKSPACES = 1024;
+  private static final long BUILD_FAILURE_BACKOFF_MILLIS = 5_000;
+
+  private final WorkspaceMemberRepository memberRepository;
+  private final BoundedLoadingCache<UUID, MentionMatcher> matchers;
+
+  public MentionMatcherCache(
+      WorkspaceMemberRepository memberRepository, MeterRegistry meterRegistry) {
+    this.memberRepository = memberRepository;
+    this.matchers =
+        new BoundedLoadingCache<>(
+            MAX_WORKSPACES,
+            BUILD_FAILURE_BACKOFF_MILLIS,
+            this::build,
+            CacheMetrics.register(meterRegistry, "mention_matchers"));
+  }
+
+  public MentionMatcher get(UUID workspaceId) {
+    return matchers.get(workspaceId);
+  }
+
+  public void invalidate(UUID workspaceId) {
+    AfterCommit.run(() -> matchers.invalidate(workspaceId));
+  }
+
+  /**
+   * A user's name or email changed; any workspace they belong to may hold a stale handle.
+   */
+  public void invalidateAll() {
+    AfterCommit.run(matchers::clear);
+  }
+
+  private MentionMatcher build(UUID workspaceId) {
+    List<MentionMatcher.Handle> handles = new ArrayList<>();
+    for (WorkspaceMemberRepository.MemberHandleView member :
+        memberRepository.findHandlesByWorkspaceId(workspaceId)) {
+      handles.add(new MentionMatcher.Handle(member.getEmail(), member.getUserId()));
+      if (member.getName() != null) {
+        handles.add(
+            new MentionMatcher.Handle(member.getName().replaceAll("\\s+", ""), member.getUserId()));
+      }
+    }
+    return MentionMatcher.of(handles);
+  }
+}
@@ -0,0 +1,100 @@
+package com.sprintdesk.service;
+
+import com.sprintdesk.config.NotificationProperties;
+import com.sprintdesk.repository.NotificationRepository;
+import com.sprintdesk.repository.WorkspaceMemberRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+@Service
+public class NotificationFanoutService {
+  /**
+   * Delivers one notification to many users: mentions today, watcher lists later.
+   */
+  private final WorkspaceMemberRepository memberRepository;
+  private final NotificationRepository notificationRepository;
+  private final NotificationService notificationService;
+  private final NotificationProperties properties;
+
+  public NotificationFanoutService(
+      WorkspaceMemberRepository memberRepository,
+      NotificationRepository notificationRepository,
+      NotificationService notificationService,
+      NotificationProperties properties) {
+    this.memberRepository = memberRepository;
+    this.notificationRepository = notificationRepository;
+    this.notificationService = notificationService;
+    this.properties = properties;
+  }
+
+  /**
+   * Notify every candidate that belongs to the workspace, skipping the actor. With digests on,
+   * users holding an unread notification for the same issue and type get that one bumped instead;
+   * otherwise anyone notified inside the dedupe window is skipped.
+   *
+   * @return the number of users notified
+   */
+  public int fanOut(
+      UUID workspaceId,
+      UUID issueId,
+      UUID actorId,
+      String type,
+      String message,
+      Collection<UUID> candidates) {
+    Set<UUID> recipients = new LinkedHashSet<>(candidates);
+    if (actorId != null) {
+      recipients.remove(actorId);
+    }
+    if (recipients.isEmpty()) {
+      return 0;
+    }
+
+    Instant since = Instant.now().minus(Duration.ofSeconds(properties.getDedupeWindowSeconds()));
+    int notified = 0;
+    for (List<UUID> chunk : chunks(recipients)) {
+      Set<UUID> members =
+          new LinkedHashSet<>(memberRepository.findUserIdsByWorkspaceIdAndUserIdIn(workspaceId, chunk));
+      if (members.isEmpty()) {
+        continue;
+      }
+      if (issueId != null && properties.isDigestEnabled()) {
+        Set<UUID> merged =
+            notificationService.mergeIntoDigests(members, issueId, type, message);
+        notified += merged.size();
+        members.removeAll(merged);
+      } else if (issueId != null && properties.getDedupeWindowSeconds() > 0) {
+        members.removeAll(
+            notificationRepository.findRecentRecipients(issueId, type, members, since));
+      }
+      notified +=
+          notificationService
+              .createNotifications(members, workspaceId, issueId, type, message)
+              .size();
+    }
+    return notified;
+  }
+
+  private List<List<UUID>> chunks(Set<UUID> ids) {
+    int size = Math.max(properties.getFanoutBatchSize(), 1);
+    List<List<UUID>> chunks = new ArrayList<>();
+    List<UUID> current = new ArrayList<>(size);
+    for (UUID id : ids) {
+      current.add(id);
+      if (current.size() == size) {
+        chunks.add(current);
+        current = new ArrayList<>(size);
+      }
+    }
+    if (!current.isEmpty()) {
+      chunks.add(current);
+    }
+    return chunks;
+  }
+}
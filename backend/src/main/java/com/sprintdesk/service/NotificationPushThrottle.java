@@ -0,0 +1,94 @@
+package com.sprintdesk.service;
+
+import com.sprintdesk.config.NotificationProperties;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NotificationPushThrottle {
+  /**
+   * Per-user token buckets for realtime notification pushes. Users that run out of tokens are
+   * parked in a pending set and receive a single catch-up frame once a token frees up.
+   */
+  private static final long IDLE_EVICT_NANOS = Duration.ofMinutes(10).toNanos();
+
+  private final NotificationProperties properties;
+  private final Map<UUID, Bucket> buckets = new ConcurrentHashMap<>();
+  private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+  public NotificationPushThrottle(NotificationProperties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * Take a token for the user. Returns false and marks the user as pending when the bucket is
+   * empty.
+   */
+  public boolean tryAcquire(UUID userId) {
+    if (properties.getPushesPerMinute() <= 0) {
+      return true;
+    }
+    Bucket bucket = buckets.computeIfAbsent(userId, id -> new Bucket(capacity()));
+    if (bucket.tryTake(capacity(), refillPerNano())) {
+      return true;
+    }
+    pending.add(userId);
+    return false;
+  }
+
+  /**
+   * Users whose suppressed pushes can now be summarised in one frame. Each returned user has
+   * already been charged a token and removed from the pending set.
+   */
+  public Set<UUID> drainReady() {
+    Set<UUID> ready = ConcurrentHashMap.newKeySet();
+    for (UUID userId : pending) {
+      Bucket bucket = buckets.get(userId);
+      if (bucket == null || bucket.tryTake(capacity(), refillPerNano())) {
+        pending.remove(userId);
+        ready.add(userId);
+      }
+    }
+    long now = System.nanoTime();
+    buckets.entrySet().removeIf(
+        entry -> !pending.contains(entry.getKey()) && entry.getValue().idleSince(now) > IDLE_EVICT_NANOS);
+    return ready;
+  }
+
+  private double capacity() {
+    return Math.max(properties.getPushBurst(), 1);
+  }
+
+  private double refillPerNano() {
+    return properties.getPushesPerMinute() / (double) Duration.ofMinutes(1).toNanos();
+  }
+
+  private static final class Bucket {
+    private double tokens;
+    private long refilledAt;
+
+    private Bucket(double tokens) {
+      this.tokens = tokens;
+      this.refilledAt = System.nanoTime();
+    }
+
+    synchronized boolean tryTake(double capacity, double refillPerNano) {
+      long now = System.nanoTime();
+      tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+      refilledAt = now;
+      if (tokens < 1) {
+        return false;
+      }
+      tokens -= 1;
+      return true;
+    }
+
+    synchronized long idleSince(long now) {
+      return now - refilledAt;
+    }
+  }
+}
@@ -1,49 +1,141 @@
 package com.sprintdesk.service;
 
+import com.sprintdesk.api.PageCursor;
+import com.sprintdesk.config.NotificationProperties;
 import com.sprintdesk.dto.NotificationResponse;
 import com.sprintdesk.model.Notification;
+import com.sprintdesk.repository.NotificationDigestRepository;
 import com.sprintdesk.repository.NotificationRepository;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 @Service
 public class NotificationService {
   private final NotificationRepository notificationRepository;
+  private final NotificationDigestRepository digestRepository;
   private final RealtimeService realtimeService;
+  private final NotificationPushThrottle pushThrottle;
+  private final NotificationProperties properties;
+  private final UnreadCountCache unreadCounts;
 
   public NotificationService(
-      NotificationRepository notificationRepository, RealtimeService realtimeService) {
+      NotificationRepository notificationRepository,
+      NotificationDigestRepository digestRepository,
+      RealtimeService realtimeService,
+      NotificationPushThrottle pushThrottle,
+      NotificationProperties properties,
+      UnreadCountCache unreadCounts) {
     this.notificationRepository = notificationRepository;
+    this.digestRepository = digestRepository;
     this.realtimeService = realtimeService;
+    this.pushThrottle = pushThrottle;
+    this.properties = properties;
+    this.unreadCounts = unreadCounts;
   }
 
-  public Notification createNotification(
+  public void createNotification(
       UUID userId, UUID workspaceId, UUID issueId, String type, String message) {
-    Notification notification = new Notification();
-    notification.setUserId(userId);
-    notification.setWorkspaceId(workspaceId);
-    notification.setIssueId(issueId);
-    notification.setType(type);
-    notification.setMessage(message);
-    Notification saved = notificationRepository.save(notification);
-
-    realtimeService.publishUserEvent(
-        userId.toString(),
-        "notification_created",
-        java.util.Map.of(
-            "message", saved.getMessage(), "notificationId", saved.getId().toString()));
+    if (mergeIntoDigests(List.of(userId), issueId, type, message).contains(userId)) {
+      return;
+    }
+    Notification saved =
+        notificationRepository.save(buildNotification(userId, workspaceId, issueId, type, message));
+    publishCreated(saved);
+  }
 
+  /**
+   * Insert one notification per recipient in a single batch, then push one frame to each.
+   */
+  public List<Notification> createNotifications(
+      Collection<UUID> userIds, UUID workspaceId, UUID issueId, String type, String message) {
+    if (userIds.isEmpty()) {
+      return List.of();
+    }
+    List<Notification> notifications = new ArrayList<>(userIds.size());
+    for (UUID userId : userIds) {
+      notifications.add(buildNotification(userId, workspaceId, issueId, type, message));
+    }
+    List<Notification> saved = notificationRepository.saveAll(notifications);
+    for (Notification notification : saved) {
+      publishCreated(notification);
+    }
     return saved;
   }
 
-  public List<NotificationResponse> listNotifications(UUID userId, boolean unreadOnly) {
-    List<Notification> notifications =
-        unreadOnly
-            ? notificationRepository.findByUserIdAndReadAtIsNullOrderByCreatedAtDesc(userId)
-            : notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
-    return notifications.stream().map(this::toResponse).toList();
+  /**
+   * Fold a new event into each user's unread notification for the same issue and type, if one
+   * was created inside the digest window.
+   *
+   * @return the users whose notification was merged
+   */
+  public Set<UUID> mergeIntoDigests(
+      Collection<UUID> userIds, UUID issueId, String type, String message) {
+    if (!properties.isDigestEnabled() || issueId == null || userIds.isEmpty()) {
+      return Set.of();
+    }
+    Instant since = Instant.now().minus(Duration.ofSeconds(properties.getDigestWindowSeconds()));
+    Set<UUID> merged = new LinkedHashSet<>();
+    for (NotificationDigestRepository.MergedDigest digest :
+        digestRepository.merge(userIds, issueId, type, message, since)) {
+      merged.add(digest.userId());
+      AfterCommit.run(
+          () ->
+              push(
+                  digest.userId(),
+                  "notification_created",
+                  Map.of(
+                      "message", message,
+                      "notificationId", digest.id().toString(),
+                      "count", digest.digestCount(),
+                      "unreadCount", getUnreadCount(digest.userId()))));
+    }
+    return merged;
+  }
+
+  public NotificationPage listNotifications(
+      UUID userId, boolean unreadOnly, String cursor, int limit) {
+    PageCursor after = PageCursor.decode(cursor);
+    PageRequest page = PageRequest.of(0, limit + 1);
+    List<Notification> notifications;
+    if (after == null) {
+      notifications =
+          unreadOnly
+              ? notificationRepository.findByUserIdAndReadAtIsNullOrderByCreatedAtDescIdDesc(
+                  userId, page)
+              : notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, page);
+    } else {
+      notifications =
+          unreadOnly
+              ? notificationRepository.findUnreadPageBefore(
+                  userId, after.createdAt(), after.id(), page)
+              : notificationRepository.findPageBefore(userId, after.createdAt(), after.id(), page);
+    }
+
+    String nextCursor = null;
+    if (notifications.size() > limit) {
+      notifications = notifications.subList(0, limit);
+      Notification last = notifications.get(limit - 1);
+      nextCursor = new PageCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+    return new NotificationPage(
+        notifications.stream().map(this::toResponse).toList(), nextCursor, getUnreadCount(userId));
+  }
+
+  /**
+   * Unread badge count, served from memory once it has been loaded for the user.
+   */
+  public long getUnreadCount(UUID userId) {
+    return unreadCounts.get(userId, notificationRepository::countByUserIdAndReadAtIsNull);
   }
 
   public NotificationResponse markRead(UUID userId, UUID notificationId) {
@@ -53,21 +145,103 @@ public class NotificationService {
             .orElseThrow(() -> new org.springframework.web.server.ResponseStatusException(
                 org.springframework.http.HttpStatus.NOT_FOUND, "Notification not found"));
     if (notification.getReadAt() == null) {
-      notification.setReadAt(Instant.now());
-      notificationRepository.save(notification);
+      Instant readAt = Instant.now();
+      if (notificationRepository.markRead(notificationId, userId, readAt) > 0) {
+        notification.setReadAt(readAt);
+        AfterCommit.run(
+            () -> {
+              long unread = adjustUnread(userId, -1);
+              publishRead(userId, List.of(notificationId), unread);
+            });
+      }
     }
     return toResponse(notification);
   }
 
+  /**
+   * The cached count is dropped and reloaded rather than set to zero, so notifications created
+   * while the update ran are still counted.
+   */
   public long markAllRead(UUID userId) {
-    List<Notification> notifications =
-        notificationRepository.findByUserIdAndReadAtIsNullOrderByCreatedAtDesc(userId);
-    Instant now = Instant.now();
-    for (Notification notification : notifications) {
-      notification.setReadAt(now);
+    int updated = notificationRepository.markAllRead(userId, Instant.now());
+    AfterCommit.run(
+        () -> {
+          unreadCounts.evict(List.of(userId));
+          if (updated > 0) {
+            realtimeService.publishUserEvent(
+                userId.toString(),
+                "notifications_read",
+                Map.of("all", true, "updated", updated, "unreadCount", getUnreadCount(userId)));
+          }
+        });
+    return updated;
+  }
+
+  /** Bulk delete for data resets; the users' cached counts are dropped once it commits. */
+  public void deleteForUsers(List<UUID> userIds) {
+    notificationRepository.deleteByUserIdIn(userIds);
+    AfterCommit.run(() -> unreadCounts.evict(userIds));
+  }
+
+  /**
+   * Send one catch-up frame to users whose pushes were dropped by the rate limiter.
+   */
+  @Scheduled(fixedDelayString = "${app.notifications.push-flush-ms:1000}")
+  public void flushThrottledPushes() {
+    for (UUID userId : pushThrottle.drainReady()) {
+      realtimeService.publishUserEvent(
+          userId.toString(), "notifications_updated", Map.of("unreadCount", getUnreadCount(userId)));
+    }
+  }
+
+  private Notification buildNotification(
+      UUID userId, UUID workspaceId, UUID issueId, String type, String message) {
+    Notification notification = new Notification();
+    notification.setUserId(userId);
+    notification.setWorkspaceId(workspaceId);
+    notification.setIssueId(issueId);
+    notification.setType(type);
+    notification.setMessage(message);
+    return notification;
+  }
+
+  private void publishCreated(Notification notification) {
+    AfterCommit.run(
+        () -> {
+          long unread = adjustUnread(notification.getUserId(), 1);
+          push(
+              notification.getUserId(),
+              "notification_created",
+              Map.of(
+                  "message", notification.getMessage(),
+                  "notificationId", notification.getId().toString(),
+                  "count", notification.getDigestCount(),
+                  "unreadCount", unread));
+        });
+  }
+
+  private void push(UUID userId, String type, Map<String, Object> payload) {
+    if (pushThrottle.tryAcquire(userId)) {
+      realtimeService.publishUserEvent(userId.toString(), type, payload);
     }
-    notificationRepository.saveAll(notifications);
-    return notifications.size();
+  }
+
+  /**
+   * Apply a committed delta to a cached counter. Users without a cached value are loaded from
+   * the database instead, which already includes the change.
+   */
+  private long adjustUnread(UUID userId, long delta) {
+    long unread = unreadCounts.adjust(userId, delta);
+    return unread < 0 ? getUnreadCount(userId) : unread;
+  }
+
+  private void publishRead(UUID userId, List<UUID> notificationIds, long unread) {
+    realtimeService.publishUserEvent(
+        userId.toString(),
+        "notifications_read",
+        Map.of(
+            "notificationIds", notificationIds.stream().map(UUID::toString).toList(),
+            "unreadCount", unread));
   }
 
   private NotificationResponse toResponse(Notification notification) {
@@ -75,8 +249,12 @@ public class NotificationService {
         notification.getId().toString(),
         notification.getMessage(),
         notification.getType(),
+        notification.getDigestCount(),
         notification.getReadAt() == null ? null : notification.getReadAt().toString(),
         notification.getCreatedAt().toString(),
         notification.getIssueId() == null ? null : notification.getIssueId().toString());
   }
-}
\ No newline at end of file
+
+  public record NotificationPage(
+      List<NotificationResponse> notifications, String nextCursor, long unreadCount) {}
+}
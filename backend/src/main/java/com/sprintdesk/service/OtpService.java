@@ -1,7 +1,6 @@
 package com.sprintdesk.service;
 
-import com.sprintdesk.model.OtpCode;
-import com.sprintdesk.repository.OtpCodeRepository;
+import com.sprintdesk.exception.TooManyRequestsException;
 import com.sprintdesk.security.SecurityProperties;
 import com.sprintdesk.security.TokenService;
 import java.security.SecureRandom;
@@ -9,62 +8,65 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Locale;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class OtpService {
   /**
-   * Issues and validates one-time passcodes for email-based login.
+   * Issues and validates one-time passcodes for email-based login. Verification attempts are
+   * limited per email over a sliding window (a successful login clears the count); the limiter is
+   * kept in memory on each instance.
    */
-  private final OtpCodeRepository otpCodeRepository;
+  private final OtpStore otpStore;
   private final TokenService tokenService;
   private final SecurityProperties securityProperties;
+  private final SlidingWindowLimiter attempts;
   private final SecureRandom secureRandom = new SecureRandom();
 
   public OtpService(
-      OtpCodeRepository otpCodeRepository,
-      TokenService tokenService,
-      SecurityProperties securityProperties) {
-    this.otpCodeRepository = otpCodeRepository;
+      OtpStore otpStore, TokenService tokenService, SecurityProperties securityProperties) {
+    this.otpStore = otpStore;
     this.tokenService = tokenService;
     this.securityProperties = securityProperties;
+    this.attempts =
+        new SlidingWindowLimiter(
+            securityProperties.getOtpMaxAttempts(),
+            Duration.ofMinutes(securityProperties.getOtpAttemptWindowMinutes()));
   }
 
   public OtpChallenge requestCode(String email) {
     String normalized = email.toLowerCase(Locale.ROOT).trim();
-    otpCodeRepository.deleteByEmail(normalized);
-
     String code = generateCode(securityProperties.getOtpCodeLength());
     Instant expiresAt = Instant.now().plus(Duration.ofMinutes(securityProperties.getOtpMinutes()));
-
-    OtpCode otp = new OtpCode();
-    otp.setEmail(normalized);
-    otp.setCodeHash(tokenService.hashToken(code));
-    otp.setExpiresAt(expiresAt);
-    otpCodeRepository.save(otp);
-
+    otpStore.put(normalized, tokenService.hashToken(code), expiresAt);
     return new OtpChallenge(code, expiresAt);
   }
 
   public void verifyCode(String email, String code) {
     String normalized = email.toLowerCase(Locale.ROOT).trim();
-    OtpCode otp =
-        otpCodeRepository
-            .findTopByEmailOrderByCreatedAtDesc(normalized)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid code"));
-
-    if (otp.getConsumedAt() != null || otp.getExpiresAt().isBefore(Instant.now())) {
-      throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Code expired");
+    Instant now = Instant.now();
+    // Count the attempt before checking the code so parallel guesses cannot outrun the limit.
+    long retryAfterMillis = attempts.tryAcquire(normalized, now.toEpochMilli());
+    if (retryAfterMillis > 0) {
+      throw new TooManyRequestsException(
+          "Too many attempts, please retry later", (retryAfterMillis + 999) / 1000);
     }
 
-    String hashed = tokenService.hashToken(code.trim());
-    if (!hashed.equals(otp.getCodeHash())) {
-      throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid code");
+    OtpStore.Result result = otpStore.consume(normalized, tokenService.hashToken(code.trim()), now);
+    switch (result) {
+      case CONSUMED -> attempts.reset(normalized);
+      case EXPIRED -> throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Code expired");
+      case INVALID -> throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid code");
     }
+  }
 
-    otp.setConsumedAt(Instant.now());
-    otpCodeRepository.save(otp);
+  @Scheduled(fixedDelayString = "${app.security.otp-sweep-interval-ms:10000}")
+  public void sweepExpired() {
+    Instant now = Instant.now();
+    otpStore.purgeExpired(now);
+    attempts.prune(now.toEpochMilli());
   }
 
   private String generateCode(int length) {
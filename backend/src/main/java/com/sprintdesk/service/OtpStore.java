@@ -0,0 +1,24 @@
+package com.sprintdesk.service;
+
+import java.time.Instant;
+
+/**
+ * Storage for one-time passcodes, keyed by normalized email. Each email holds at most one live
+ * code; issuing a new one replaces it.
+ */
+public interface OtpStore {
+  void put(String email, String codeHash, Instant expiresAt);
+
+  /**
+   * Atomically mark the code used if it matches and is still live.
+   */
+  Result consume(String email, String codeHash, Instant now);
+
+  int purgeExpired(Instant now);
+
+  enum Result {
+    CONSUMED,
+    INVALID,
+    EXPIRED
+  }
+}
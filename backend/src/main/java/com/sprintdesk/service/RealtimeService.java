@@ -1,5 +1,6 @@
 package com.sprintdesk.service;
 
+import com.sprintdesk.metrics.RealtimeMetrics;
 import java.util.Map;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -7,9 +8,11 @@ import org.springframework.stereotype.Service;
 @Service
 public class RealtimeService {
   private final SimpMessagingTemplate messagingTemplate;
+  private final RealtimeMetrics realtimeMetrics;
 
-  public RealtimeService(SimpMessagingTemplate messagingTemplate) {
+  public RealtimeService(SimpMessagingTemplate messagingTemplate, RealtimeMetrics realtimeMetrics) {
     this.messagingTemplate = messagingTemplate;
+    this.realtimeMetrics = realtimeMetrics;
   }
 
   /**
@@ -19,6 +22,7 @@ public class RealtimeService {
     messagingTemplate.convertAndSend(
         "/topic/workspaces/" + workspaceId + "/events",
         Map.of("type", type, "payload", payload));
+    realtimeMetrics.published("workspace", type);
   }
 
   /**
@@ -28,5 +32,6 @@ public class RealtimeService {
     messagingTemplate.convertAndSend(
         "/topic/users/" + userId + "/events",
         Map.of("type", type, "payload", payload));
+    realtimeMetrics.published("user", type);
   }
 }
\ No newline at end of file
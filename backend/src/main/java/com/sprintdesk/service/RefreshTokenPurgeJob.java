@@ -0,0 +1,55 @@
+package com.sprintdesk.service;
+
+import com.sprintdesk.security.SecurityProperties;
+import java.sql.Timestamp;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RefreshTokenPurgeJob {
+  /**
+   * Deletes expired refresh tokens in small batches. Revoked tokens are kept until they expire so
+   * a replayed token can still be recognised and its family revoked.
+   */
+  private static final Logger log = LoggerFactory.getLogger(RefreshTokenPurgeJob.class);
+  private static final String DELETE_BATCH =
+      "DELETE FROM refresh_tokens WHERE id IN ("
+          + "SELECT id FROM refresh_tokens WHERE expires_at < ? LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final SecurityProperties properties;
+
+  public RefreshTokenPurgeJob(JdbcTemplate jdbcTemplate, SecurityProperties properties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.properties = properties;
+  }
+
+  @Scheduled(cron = "${app.security.refresh-purge-cron:0 40 * * * *}")
+  public void purgeExpired() {
+    int batchSize = Math.max(properties.getRefreshPurgeBatchSize(), 1);
+    int maxBatches = Math.max(properties.getRefreshPurgeMaxBatches(), 1);
+    Timestamp cutoff = Timestamp.from(Instant.now());
+    long total = 0;
+    try {
+      for (int batch = 0; batch < maxBatches; batch++) {
+        // Each statement commits on its own, so row locks are held for one batch only.
+        int deleted = jdbcTemplate.update(DELETE_BATCH, cutoff, batchSize);
+        total += deleted;
+        if (deleted < batchSize) {
+          break;
+        }
+      }
+    } catch (DataAccessException ex) {
+      log.warn("Refresh token purge failed after {} row(s)", total, ex);
+      return;
+    }
+    if (total > 0) {
+      log.info("Purged {} expired refresh token(s)", total);
+    }
+  }
+}
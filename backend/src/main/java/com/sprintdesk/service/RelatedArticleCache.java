@@ -0,0 +1,103 @@
+package com.sprintdesk.service;
+
+import com.sprintdesk.metrics.CacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RelatedArticleCache {
+  /**
+   * Article ids linked to each issue, kept for the most recently viewed issues for up to
+   * {@link #TTL_MILLIS}. Invalidation waits for the writing transaction to commit, and a load
+   * that overlapped an invalidation is returned without being cached, since it may have read the
+   * links from before the write.
+   */
+  private static final int MAX_ISSUES = 2048;
+  private static final long TTL_MILLIS = 10 * 60 * 1000L;
+
+  private final Map<UUID, Entry> articleIdsByIssue =
+      new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+          return size() > MAX_ISSUES;
+        }
+      };
+  private final CacheMetrics metrics;
+  private long stamp;
+
+  public RelatedArticleCache(MeterRegistry meterRegistry) {
+    this.metrics = CacheMetrics.register(meterRegistry, "related_articles");
+  }
+
+  public List<UUID> get(UUID issueId, Function<UUID, List<UUID>> loader) {
+    return get(issueId, loader, () -> true);
+  }
+
+  /**
+   * Like {@link #get(UUID, Function)}, but a loaded value is only kept if {@code store} still
+   * holds once the loader has run, so it can depend on how the load was served.
+   */
+  public List<UUID> get(UUID issueId, Function<UUID, List<UUID>> loader, BooleanSupplier store) {
+    long seen;
+    synchronized (articleIdsByIssue) {
+      Entry cached = articleIdsByIssue.get(issueId);
+      if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+        metrics.hit();
+        return cached.articleIds();
+      }
+      seen = stamp;
+    }
+    metrics.miss();
+    List<UUID> loaded = List.copyOf(loader.apply(issueId));
+    if (!store.getAsBoolean()) {
+      return loaded;
+    }
+    synchronized (articleIdsByIssue) {
+      if (stamp == seen) {
+        articleIdsByIssue.put(
+            issueId, new Entry(loaded, System.currentTimeMillis() + TTL_MILLIS));
+      }
+    }
+    return loaded;
+  }
+
+  public void invalidate(Collection<UUID> issueIds) {
+    if (issueIds.isEmpty()) {
+      return;
+    }
+    List<UUID> ids = List.copyOf(issueIds);
+    AfterCommit.run(
+        () -> {
+          synchronized (articleIdsByIssue) {
+            for (UUID issueId : ids) {
+              articleIdsByIssue.remove(issueId);
+            }
+            stamp++;
+          }
+        });
+  }
+
+  public void invalidate(UUID issueId) {
+    invalidate(List.of(issueId));
+  }
+
+  /** Drops every entry once the current transaction commits, for bulk deletes. */
+  public void clear() {
+    AfterCommit.run(
+        () -> {
+          synchronized (articleIdsByIssue) {
+            articleIdsByIssue.clear();
+            stamp++;
+          }
+        });
+  }
+
+  private record Entry(List<UUID> articleIds, long expiresAt) {}
+}
@@ -0,0 +1,70 @@
+package com.sprintdesk.service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-key sliding-window log: at most {@code limit} events in any {@code window}. Keeps one
+ * timestamp per event, which is cheap for the small limits it is used with. Each key's log is
+ * only touched inside the map's per-key compute, so updates to one key are serialized.
+ */
+public final class SlidingWindowLimiter {
+  private final int limit;
+  private final long windowMillis;
+  private final Map<String, Deque<Long>> events = new ConcurrentHashMap<>();
+
+  public SlidingWindowLimiter(int limit, Duration window) {
+    this.limit = Math.max(limit, 1);
+    this.windowMillis = Math.max(window.toMillis(), 1);
+  }
+
+  /**
+   * Record an event for {@code key} if the window has room. Trimming, the check and the record
+   * happen in one per-key compute, so concurrent callers cannot all slip past a full window.
+   *
+   * @return 0 if the event was recorded, otherwise milliseconds until one will be allowed
+   */
+  public long tryAcquire(String key, long nowMillis) {
+    long[] wait = {0};
+    events.compute(
+        key,
+        (k, log) -> {
+          Deque<Long> updated = log == null ? new ArrayDeque<>() : log;
+          trim(updated, nowMillis);
+          if (updated.size() >= limit) {
+            wait[0] = Math.max(updated.peekFirst() + windowMillis - nowMillis, 1);
+          } else {
+            updated.addLast(nowMillis);
+          }
+          return updated;
+        });
+    return wait[0];
+  }
+
+  public void reset(String key) {
+    events.remove(key);
+  }
+
+  /**
+   * Drop keys whose events have all left the window.
+   */
+  public void prune(long nowMillis) {
+    for (String key : events.keySet()) {
+      events.computeIfPresent(
+          key,
+          (k, log) -> {
+            trim(log, nowMillis);
+            return log.isEmpty() ? null : log;
+          });
+    }
+  }
+
+  private void trim(Deque<Long> log, long nowMillis) {
+    while (!log.isEmpty() && log.peekFirst() <= nowMillis - windowMillis) {
+      log.removeFirst();
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.sprintdesk.service;
+
+import com.sprintdesk.metrics.CacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UnreadCountCache {
+  /**
+   * Unread notification counts for the most recently active users. Counts are adjusted after
+   * each committed change and expire after {@link #TTL_MILLIS} so any drift heals itself.
+   *
+   * <p>A count loaded from the database is only kept if no change for an uncached user and no
+   * eviction happened while it was loading; otherwise the load may predate that change and is
+   * returned without being cached.
+   */
+  private static final int MAX_USERS = 10_000;
+  private static final long TTL_MILLIS = 10 * 60 * 1000L;
+
+  private final Map<UUID, Entry> counts =
+      new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+          return size() > MAX_USERS;
+        }
+      };
+  private final CacheMetrics metrics;
+  private long stamp;
+
+  public UnreadCountCache(MeterRegistry meterRegistry) {
+    this.metrics = CacheMetrics.register(meterRegistry, "unread_counts");
+  }
+
+  public long get(UUID userId, ToLongFunction<UUID> loader) {
+    long seen;
+    synchronized (counts) {
+      Entry entry = live(userId);
+      if (entry != null) {
+        metrics.hit();
+        return entry.count;
+      }
+      seen = stamp;
+    }
+    metrics.miss();
+    long loaded = loader.applyAsLong(userId);
+    synchronized (counts) {
+      if (stamp == seen) {
+        counts.put(userId, new Entry(loaded, System.currentTimeMillis() + TTL_MILLIS));
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * Applies a committed change to a cached count.
+   *
+   * @return the new count, or -1 when the user has no cached count
+   */
+  public long adjust(UUID userId, long delta) {
+    synchronized (counts) {
+      Entry entry = live(userId);
+      if (entry == null) {
+        stamp++;
+        return -1;
+      }
+      entry.count = Math.max(0, entry.count + delta);
+      return entry.count;
+    }
+  }
+
+  public void evict(Collection<UUID> userIds) {
+    synchronized (counts) {
+      for (UUID userId : userIds) {
+        counts.remove(userId);
+      }
+      stamp++;
+    }
+  }
+
+  private Entry live(UUID userId) {
+    Entry entry = counts.get(userId);
+    if (entry != null && entry.expiresAt <= System.currentTimeMillis()) {
+      counts.remove(userId);
+      return null;
+    }
+    return entry;
+  }
+
+  private static final class Entry {
+    private long count;
+    private final long expiresAt;
+
+    private Entry(long count, long expiresAt) {
+      this.count = count;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
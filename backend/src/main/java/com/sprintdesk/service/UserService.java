@@ -12,9 +12,11 @@ import org.springframework.web.server.ResponseStatusException;
 @Service
 public class UserService {
   private final UserRepository userRepository;
+  private final MentionMatcherCache mentionMatchers;
 
-  public UserService(UserRepository userRepository) {
+  public UserService(UserRepository userRepository, MentionMatcherCache mentionMatchers) {
     this.userRepository = userRepository;
+    this.mentionMatchers = mentionMatchers;
   }
 
   public UserResponse getUser(UUID userId) {
@@ -33,8 +35,9 @@ public class UserService {
 
     if (request.name() != null) {
       String trimmed = request.name().trim();
-      if (!trimmed.isEmpty()) {
+      if (!trimmed.isEmpty() && !trimmed.equals(user.getName())) {
         user.setName(trimmed);
+        mentionMatchers.invalidateAll();
       }
     }
     if (request.avatarUrl() != null) {
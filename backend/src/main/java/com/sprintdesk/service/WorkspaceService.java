@@ -30,6 +30,7 @@ import java.util.Locale;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
@@ -40,6 +41,7 @@ public class WorkspaceService {
   private final UserRepository userRepository;
   private final IssueRepository issueRepository;
   private final ArticleRepository articleRepository;
+  private final MentionMatcherCache mentionMatchers;
   private final SecureRandom random = new SecureRandom();
 
   public WorkspaceService(
@@ -48,13 +50,15 @@ public class WorkspaceService {
       WorkspaceInviteRepository inviteRepository,
       UserRepository userRepository,
       IssueRepository issueRepository,
-      ArticleRepository articleRepository) {
+      ArticleRepository articleRepository,
+      MentionMatcherCache mentionMatchers) {
     this.workspaceRepository = workspaceRepository;
     this.memberRepository = memberRepository;
     this.inviteRepository = inviteRepository;
     this.userRepository = userRepository;
     this.issueRepository = issueRepository;
     this.articleRepository = articleRepository;
+    this.mentionMatchers = mentionMatchers;
   }
 
   public List<WorkspaceResponse> listWorkspaces(UUID userId) {
@@ -94,6 +98,7 @@ public class WorkspaceService {
     member.setUser(user);
     member.setRole(WorkspaceRole.OWNER);
     memberRepository.save(member);
+    mentionMatchers.invalidate(workspace.getId());
 
     return new WorkspaceMembershipResult(workspace, member);
   }
@@ -126,7 +131,9 @@ public class WorkspaceService {
                   created.setWorkspace(workspace);
                   created.setUser(user);
                   created.setRole(WorkspaceRole.MEMBER);
-                  return memberRepository.save(created);
+                  WorkspaceMember saved = memberRepository.save(created);
+                  mentionMatchers.invalidate(workspace.getId());
+                  return saved;
                 });
 
     return new WorkspaceMembershipResult(workspace, member);
@@ -195,6 +202,7 @@ public class WorkspaceService {
     return inviteRepository.save(invite);
   }
 
+  @Transactional(readOnly = true)
   public MemberOverviewResponse getMemberOverview(UUID workspaceId, UUID memberId) {
     WorkspaceMember member =
         memberRepository
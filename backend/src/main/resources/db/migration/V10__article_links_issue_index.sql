@@ -0,0 +1,16 @@
+DELETE FROM article_links l
+WHERE NOT EXISTS (SELECT 1 FROM issues i WHERE i.id = l.issue_id);
+
+DELETE FROM article_links a
+USING article_links b
+WHERE a.ctid < b.ctid
+  AND a.article_id = b.article_id
+  AND a.issue_id = b.issue_id;
+
+ALTER TABLE article_links
+  ADD CONSTRAINT fk_article_links_issue FOREIGN KEY (issue_id) REFERENCES issues(id) ON DELETE CASCADE;
+
+ALTER TABLE article_links ADD PRIMARY KEY (article_id, issue_id);
+DROP INDEX IF EXISTS idx_article_links_article;
+
+CREATE INDEX IF NOT EXISTS idx_article_links_issue ON article_links(issue_id, article_id);
@@ -0,0 +1,8 @@
+ALTER TABLE articles
+  ADD COLUMN IF NOT EXISTS search_vector tsvector
+  GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A')
+      || setweight(to_tsvector('english', coalesce(body, '')), 'B')
+  ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_articles_search ON articles USING GIN (search_vector);
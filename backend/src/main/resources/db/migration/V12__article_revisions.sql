@@ -0,0 +1,12 @@
+CREATE TABLE IF NOT EXISTS article_revisions (
+  id UUID PRIMARY KEY,
+  article_id UUID NOT NULL REFERENCES articles(id) ON DELETE CASCADE,
+  version INTEGER NOT NULL,
+  kind VARCHAR(16) NOT NULL,
+  title VARCHAR(255) NOT NULL,
+  payload BYTEA NOT NULL,
+  body_length INTEGER NOT NULL,
+  created_by UUID,
+  created_at TIMESTAMPTZ NOT NULL,
+  CONSTRAINT uq_article_revisions_version UNIQUE (article_id, version)
+);
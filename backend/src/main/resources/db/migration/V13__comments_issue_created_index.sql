@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_comments_issue_created ON comments(issue_id, created_at, id);
+DROP INDEX IF EXISTS idx_comments_issue;
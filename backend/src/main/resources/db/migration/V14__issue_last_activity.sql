@@ -0,0 +1,4 @@
+CREATE TABLE IF NOT EXISTS issue_last_activity (
+  issue_id UUID PRIMARY KEY REFERENCES issues(id) ON DELETE CASCADE,
+  last_activity_at TIMESTAMPTZ NOT NULL
+);
@@ -0,0 +1,8 @@
+DELETE FROM otp_codes o
+USING otp_codes newer
+WHERE o.email = newer.email
+  AND (o.created_at, o.id) < (newer.created_at, newer.id);
+
+DROP INDEX IF EXISTS idx_otp_codes_email;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_otp_codes_email ON otp_codes(email);
@@ -0,0 +1,46 @@
+ALTER TABLE activities RENAME TO activities_legacy;
+ALTER INDEX IF EXISTS idx_activities_workspace RENAME TO idx_activities_legacy_workspace;
+
+CREATE TABLE activities (
+  id UUID NOT NULL,
+  workspace_id UUID NOT NULL REFERENCES workspaces(id) ON DELETE CASCADE,
+  action VARCHAR(64) NOT NULL,
+  actor_id UUID REFERENCES users(id) ON DELETE SET NULL,
+  issue_id UUID REFERENCES issues(id) ON DELETE SET NULL,
+  meta TEXT,
+  created_at TIMESTAMPTZ NOT NULL,
+  PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE IF NOT EXISTS activities_default PARTITION OF activities DEFAULT;
+
+DO $$
+DECLARE
+  first_month DATE;
+  last_month DATE := (date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months')::date;
+  month DATE;
+BEGIN
+  SELECT COALESCE(
+      date_trunc('month', MIN(created_at) AT TIME ZONE 'UTC'),
+      date_trunc('month', now() AT TIME ZONE 'UTC'))::date
+    INTO first_month
+    FROM activities_legacy;
+  month := first_month;
+  WHILE month <= last_month LOOP
+    EXECUTE format(
+      'CREATE TABLE IF NOT EXISTS %I PARTITION OF activities FOR VALUES FROM (%L) TO (%L)',
+      'activities_p' || to_char(month, 'YYYYMM'),
+      to_char(month, 'YYYY-MM-DD') || ' 00:00:00+00',
+      to_char((month + INTERVAL '1 month')::date, 'YYYY-MM-DD') || ' 00:00:00+00');
+    month := (month + INTERVAL '1 month')::date;
+  END LOOP;
+END $$;
+
+INSERT INTO activities (id, workspace_id, action, actor_id, issue_id, meta, created_at)
+SELECT id, workspace_id, action, actor_id, issue_id, meta, created_at
+FROM activities_legacy;
+
+DROP TABLE activities_legacy;
+
+CREATE INDEX IF NOT EXISTS idx_activities_workspace_created
+  ON activities(workspace_id, created_at DESC);
@@ -0,0 +1,8 @@
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created
+  ON notifications(user_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread
+  ON notifications(user_id, created_at DESC, id DESC)
+  WHERE read_at IS NULL;
+
+DROP INDEX IF EXISTS idx_notifications_user;
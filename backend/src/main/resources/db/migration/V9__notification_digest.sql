@@ -0,0 +1,2 @@
+ALTER TABLE notifications
+  ADD COLUMN IF NOT EXISTS digest_count INTEGER NOT NULL DEFAULT 1;
@@ -0,0 +1,75 @@
+package com.sprintdesk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+/**
+ * JSON client for tests that drive the running app over HTTP on its random port. Paths are
+ * relative to the server root; a null token sends the request unauthenticated.
+ */
+public class ApiClient {
+  private final HttpClient http = HttpClient.newHttpClient();
+  private final int port;
+  private final ObjectMapper objectMapper;
+
+  public ApiClient(int port, ObjectMapper objectMapper) {
+    this.port = port;
+    this.objectMapper = objectMapper;
+  }
+
+  /** Registers a user and returns their access token. */
+  public String register(String email, String name) throws IOException, InterruptedException {
+    Map<String, String> account = Map.of("email", email, "name", name, "password", "correct-horse");
+    return (String) body(post("/api/auth/register", null, account)).get("accessToken");
+  }
+
+  /** Creates a workspace owned by the token's user and returns its JSON. */
+  public Map<?, ?> createWorkspace(String token, String name, String key)
+      throws IOException, InterruptedException {
+    return (Map<?, ?>)
+        body(post("/api/workspaces", token, Map.of("name", name, "key", key))).get("workspace");
+  }
+
+  public HttpResponse<String> post(String path, String token, Map<String, ?> body)
+      throws IOException, InterruptedException {
+    return send(request(path, token).POST(json(body)));
+  }
+
+  public HttpResponse<String> patch(String path, String token, Map<String, ?> body)
+      throws IOException, InterruptedException {
+    return send(request(path, token).method("PATCH", json(body)));
+  }
+
+  public HttpResponse<String> get(String path, String token)
+      throws IOException, InterruptedException {
+    return send(request(path, token).GET());
+  }
+
+  public Map<?, ?> body(HttpResponse<String> response) throws IOException {
+    return objectMapper.readValue(response.body(), Map.class);
+  }
+
+  private HttpRequest.BodyPublisher json(Map<String, ?> body) throws IOException {
+    return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+  }
+
+  private HttpRequest.Builder request(String path, String token) {
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Content-Type", "application/json");
+    if (token != null) {
+      builder.header("Authorization", "Bearer " + token);
+    }
+    return builder;
+  }
+
+  private HttpResponse<String> send(HttpRequest.Builder request)
+      throws IOException, InterruptedException {
+    return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+  }
+}
@@ -0,0 +1,137 @@
+package com.sprintdesk.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintdesk.ApiClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+
+/**
+ * Timed throughput run for issue create and issue list over HTTP. PerfIssueThroughputBenchmarkTest
+ * repeats it under the perf profile, so one run prints both side by side. Tagged "benchmark" and
+ * skipped by the default build; run with {@code ./mvnw test -Pbenchmark} against a database
+ * (SPRING_DATASOURCE_URL), tuning {@code -Dbenchmark.threads} and {@code -Dbenchmark.seconds}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+class IssueThroughputBenchmarkTest {
+  private static final List<String> LABELS = List.of("api", "billing", "ui");
+
+  private final int threads = Integer.getInteger("benchmark.threads", 8);
+  private final int seconds = Integer.getInteger("benchmark.seconds", 10);
+
+  @LocalServerPort private int port;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private Environment environment;
+
+  private ApiClient api;
+
+  @BeforeEach
+  void setUp() {
+    api = new ApiClient(port, objectMapper);
+  }
+
+  @Test
+  void createAndListThroughput() throws Exception {
+    String suffix = UUID.randomUUID().toString().substring(0, 8);
+    String token = api.register("bench-" + suffix + "@example.com", "Bench");
+    // One workspace per worker, like concurrent tenants: creates within a single workspace all
+    // bump the same ticket counter row.
+    List<String> issuesPaths = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      Map<?, ?> workspace =
+          api.createWorkspace(token, "Bench " + suffix + " " + i, "B" + suffix.substring(0, 4) + i);
+      issuesPaths.add("/api/workspaces/" + workspace.get("id") + "/issues");
+    }
+    AtomicInteger sequence = new AtomicInteger();
+    Call create =
+        worker ->
+            api.post(
+                issuesPaths.get(worker),
+                token,
+                Map.of("title", "Bench issue " + sequence.incrementAndGet(), "labels", LABELS));
+    Call list = worker -> api.get(issuesPaths.get(worker), token);
+
+    run(create, 201, Math.max(1, seconds / 5));
+    run(list, 200, Math.max(1, seconds / 5));
+    report("create", run(create, 201, seconds));
+    report("list", run(list, 200, seconds));
+  }
+
+  private long[] run(Call call, int expectedStatus, int runSeconds) throws Exception {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(runSeconds);
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    List<Future<List<Long>>> workers = new ArrayList<>();
+    try {
+      for (int i = 0; i < threads; i++) {
+        int worker = i;
+        workers.add(
+            pool.submit(
+                () -> {
+                  List<Long> latencies = new ArrayList<>();
+                  while (System.nanoTime() < deadline) {
+                    long started = System.nanoTime();
+                    HttpResponse<String> response = call.send(worker);
+                    latencies.add(System.nanoTime() - started);
+                    assertThat(response.statusCode()).isEqualTo(expectedStatus);
+                  }
+                  return latencies;
+                }));
+      }
+      List<Long> all = new ArrayList<>();
+      for (Future<List<Long>> worker : workers) {
+        all.addAll(worker.get(runSeconds + 60L, TimeUnit.SECONDS));
+      }
+      long[] latencies = all.stream().mapToLong(Long::longValue).toArray();
+      Arrays.sort(latencies);
+      return latencies;
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private void report(String operation, long[] latencies) {
+    assertThat(latencies).isNotEmpty();
+    System.out.printf(
+        Locale.ROOT,
+        "benchmark profiles=%s op=%s threads=%d ops=%d throughput=%.1f/s p50=%.1fms p95=%.1fms"
+            + " p99=%.1fms%n",
+        Arrays.toString(environment.getActiveProfiles()),
+        operation,
+        threads,
+        latencies.length,
+        latencies.length / (double) seconds,
+        millis(latencies, 0.50),
+        millis(latencies, 0.95),
+        millis(latencies, 0.99));
+  }
+
+  private static double millis(long[] sorted, double quantile) {
+    int index = Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1);
+    return sorted[Math.max(0, index)] / 1_000_000.0;
+  }
+
+  private interface Call {
+    HttpResponse<String> send(int worker) throws Exception;
+  }
+}
@@ -0,0 +1,7 @@
+package com.sprintdesk.controller;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/** {@link IssueThroughputBenchmarkTest} with the perf profile's pool and driver settings. */
+@ActiveProfiles("perf")
+class PerfIssueThroughputBenchmarkTest extends IssueThroughputBenchmarkTest {}
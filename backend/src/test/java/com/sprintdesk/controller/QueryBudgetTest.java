@@ -0,0 +1,97 @@
+package com.sprintdesk.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintdesk.ApiClient;
+import com.sprintdesk.metrics.QueryBudget;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Calls the endpoints that used to run N+1 queries with app.query-stats.enforce-budgets on, so a
+ * request over its {@link QueryBudget} fails with 500 instead of returning its body, and checks
+ * the statement count each one reports in Server-Timing. Needs a database: runs when
+ * SPRING_DATASOURCE_URL is set.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "app.query-stats.enforce-budgets=true")
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+class QueryBudgetTest {
+  private static final Pattern STATEMENTS = Pattern.compile("desc=\"(\\d+) statements\"");
+
+  @LocalServerPort private int port;
+  @Autowired private ObjectMapper objectMapper;
+
+  @Test
+  void articleLinkingAndMemberOverviewStayWithinBudget() throws Exception {
+    ApiClient api = new ApiClient(port, objectMapper);
+    String suffix = UUID.randomUUID().toString().substring(0, 8);
+    String token = api.register("budget-" + suffix + "@example.com", "Budget");
+    Map<?, ?> workspace =
+        api.createWorkspace(token, "Budget " + suffix, "Q" + suffix.substring(0, 5));
+    String workspacePath = "/api/workspaces/" + workspace.get("id");
+    List<String> issueIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      Map<?, ?> issue =
+          (Map<?, ?>)
+              api.body(api.post(workspacePath + "/issues", token, Map.of("title", "Linked " + i)))
+                  .get("issue");
+      issueIds.add((String) issue.get("_id"));
+    }
+
+    HttpResponse<String> created =
+        api.post(
+            workspacePath + "/articles",
+            token,
+            Map.of("title", "Runbook", "body", "Steps", "linkedIssueIds", issueIds));
+    assertWithinBudget(created, 201, "createArticle");
+    Map<?, ?> article = (Map<?, ?>) api.body(created).get("article");
+
+    HttpResponse<String> updated =
+        api.patch(
+            workspacePath + "/articles/" + article.get("_id"),
+            token,
+            Map.of("title", "Runbook v2", "body", "More steps", "linkedIssueIds", issueIds));
+    assertWithinBudget(updated, 200, "updateArticle");
+
+    List<?> members =
+        (List<?>) api.body(api.get(workspacePath + "/members", token)).get("members");
+    String memberId = (String) ((Map<?, ?>) members.get(0)).get("id");
+    HttpResponse<String> overview =
+        api.get(workspacePath + "/members/" + memberId + "/overview", token);
+    assertWithinBudget(overview, 200, "getMemberOverview");
+  }
+
+  private static void assertWithinBudget(
+      HttpResponse<String> response, int status, String method) {
+    assertThat(response.statusCode()).as(response.body()).isEqualTo(status);
+    Matcher statements =
+        STATEMENTS.matcher(response.headers().firstValue("Server-Timing").orElse(""));
+    assertThat(statements.find()).isTrue();
+    assertThat(Integer.parseInt(statements.group(1))).isLessThanOrEqualTo(budget(method));
+  }
+
+  private static int budget(String method) {
+    return Stream.of(ArticleController.class, WorkspaceController.class)
+        .flatMap(controller -> Arrays.stream(controller.getDeclaredMethods()))
+        .filter(candidate -> candidate.getName().equals(method))
+        .findFirst()
+        .orElseThrow()
+        .getAnnotation(QueryBudget.class)
+        .value();
+  }
+}
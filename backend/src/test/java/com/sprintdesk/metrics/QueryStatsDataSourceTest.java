@@ -0,0 +1,75 @@
+package com.sprintdesk.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+
+class QueryStatsDataSourceTest {
+  @Test
+  void countsEachExecuteAndEachBatchOnce() throws Exception {
+    DataSource dataSource = new QueryStatsDataSource(target());
+
+    QueryStats.Snapshot snapshot =
+        QueryStats.measure(
+            () -> {
+              try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                  statement.executeQuery("select 1");
+                  statement.setFetchSize(10);
+                }
+                try (PreparedStatement insert = connection.prepareStatement("insert")) {
+                  insert.addBatch();
+                  insert.addBatch();
+                  insert.executeBatch();
+                  insert.executeUpdate();
+                }
+              } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+              }
+            });
+
+    assertThat(snapshot.statements()).isEqualTo(3);
+  }
+
+  @Test
+  void statementsHandBackTheWrappedConnection() throws Exception {
+    DataSource dataSource = new QueryStatsDataSource(target());
+
+    try (Connection connection = dataSource.getConnection()) {
+      PreparedStatement statement = connection.prepareStatement("select 1");
+      assertThat(statement.getConnection()).isSameAs(connection);
+      assertThat(connection).isEqualTo(connection).isNotEqualTo(dataSource.getConnection());
+    }
+  }
+
+  @Test
+  void executesOutsideAScopeAreNotCounted() throws Exception {
+    DataSource dataSource = new QueryStatsDataSource(target());
+
+    try (Connection connection = dataSource.getConnection()) {
+      connection.createStatement().execute("select 1");
+    }
+    assertThat(QueryStats.current()).isNull();
+  }
+
+  private static DataSource target() throws Exception {
+    DataSource dataSource = mock(DataSource.class);
+    when(dataSource.getConnection()).thenAnswer(invocation -> connection());
+    return dataSource;
+  }
+
+  private static Connection connection() throws Exception {
+    Connection connection = mock(Connection.class);
+    when(connection.createStatement()).thenAnswer(invocation -> mock(Statement.class));
+    when(connection.prepareStatement(anyString()))
+        .thenAnswer(invocation -> mock(PreparedStatement.class));
+    return connection;
+  }
+}
@@ -0,0 +1,109 @@
+package com.sprintdesk.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprintdesk.ApiClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Floods login with more bcrypt work than the hashing pool can take and checks that the overflow
+ * is turned away with 429 and Retry-After while the issue API keeps answering. Needs a database:
+ * runs when SPRING_DATASOURCE_URL is set.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "app.security.hashing.threads=1",
+      "app.security.hashing.queue-capacity=1",
+      "app.security.hashing.wait-timeout-ms=3000",
+      "app.security.hashing.retry-after-seconds=7",
+      "app.security.hashing.max-per-ip=0",
+      "app.security.hashing.max-per-email=0",
+      "app.security.hashing.bcrypt-strength=12"
+    })
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+class LoginFloodTest {
+  private static final int FLOOD = 24;
+  private static final Duration ISSUE_LIST_LIMIT = Duration.ofSeconds(2);
+
+  @LocalServerPort private int port;
+  @Autowired private ObjectMapper objectMapper;
+
+  private ApiClient api;
+
+  @BeforeEach
+  void setUp() {
+    api = new ApiClient(port, objectMapper);
+  }
+
+  @Test
+  void saturatedHashingPoolRejectsLoginsWithoutStallingOtherApis() throws Exception {
+    String suffix = UUID.randomUUID().toString().substring(0, 8);
+    String email = "flood-" + suffix + "@example.com";
+    String token = api.register(email, "Flood");
+    Map<?, ?> workspace =
+        api.createWorkspace(token, "Flood " + suffix, "F" + suffix.substring(0, 5));
+    String issuesPath = "/api/workspaces/" + workspace.get("id") + "/issues";
+    assertThat(api.post(issuesPath, token, Map.of("title", "Still here")).statusCode())
+        .isEqualTo(201);
+
+    ExecutorService pool = Executors.newFixedThreadPool(FLOOD);
+    AtomicBoolean flooding = new AtomicBoolean(true);
+    List<Long> issueListMillis = new ArrayList<>();
+    List<HttpResponse<String>> logins = new ArrayList<>();
+    try {
+      List<Future<HttpResponse<String>>> attempts = new ArrayList<>();
+      for (int i = 0; i < FLOOD; i++) {
+        attempts.add(
+            pool.submit(
+                () ->
+                    api.post(
+                        "/api/auth/login",
+                        null,
+                        Map.of("email", email, "password", "wrong-password"))));
+      }
+      while (flooding.get()) {
+        long started = System.nanoTime();
+        HttpResponse<String> issues = api.get(issuesPath, token);
+        issueListMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        assertThat(issues.statusCode()).isEqualTo(200);
+        flooding.set(attempts.stream().anyMatch(attempt -> !attempt.isDone()));
+      }
+      for (Future<HttpResponse<String>> attempt : attempts) {
+        logins.add(attempt.get(30, TimeUnit.SECONDS));
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+
+    List<HttpResponse<String>> throttled =
+        logins.stream().filter(response -> response.statusCode() == 429).toList();
+    assertThat(throttled).isNotEmpty();
+    assertThat(throttled)
+        .allSatisfy(
+            response ->
+                assertThat(response.headers().firstValue("Retry-After")).contains("7"));
+    assertThat(logins)
+        .allSatisfy(response -> assertThat(response.statusCode()).isIn(401, 429));
+    assertThat(issueListMillis)
+        .isNotEmpty()
+        .allSatisfy(millis -> assertThat(millis).isLessThan(ISSUE_LIST_LIMIT.toMillis()));
+  }
+}
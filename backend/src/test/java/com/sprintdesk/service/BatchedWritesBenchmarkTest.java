@@ -0,0 +1,240 @@
+package com.sprintdesk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprintdesk.dto.CreateIssueRequest;
+import com.sprintdesk.metrics.QueryStats;
+import com.sprintdesk.model.Workspace;
+import com.sprintdesk.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Times the batched write paths against the same calls with JDBC batching switched off for the
+ * session (batch size 1), alternating the two so drift hits both equally. Batching must run fewer
+ * statements and finish with a lower median latency.
+ *
+ * <p>On loopback a round trip costs next to nothing, which hides what batching saves, so the app
+ * talks to the database through {@link DelayingProxy}, which holds every client-to-server write
+ * for {@code -Dbenchmark.rtt-ms} (1 ms by default, a same-region network). Tagged "benchmark": run
+ * with {@code ./mvnw test -Pbenchmark} against a database, tuning {@code -Dbenchmark.iterations}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+class BatchedWritesBenchmarkTest {
+  private static final List<String> LABELS =
+      List.of("api", "billing", "infra", "mobile", "ui", "urgent");
+
+  private static final Pattern POSTGRES_URL =
+      Pattern.compile("jdbc:postgresql://([^:/]+)(?::(\\d+))?(/.*)");
+  private static DelayingProxy proxy;
+
+  private final int iterations = Integer.getInteger("benchmark.iterations", 200);
+
+  @Autowired private DemoService demoService;
+  @Autowired private IssueService issueService;
+  @Autowired private WorkspaceRepository workspaceRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private EntityManager entityManager;
+
+  @DynamicPropertySource
+  static void routeThroughProxy(DynamicPropertyRegistry registry) throws IOException {
+    Matcher url = POSTGRES_URL.matcher(System.getenv("SPRING_DATASOURCE_URL"));
+    if (!url.matches()) {
+      throw new IllegalStateException("Unsupported SPRING_DATASOURCE_URL");
+    }
+    int port = url.group(2) == null ? 5432 : Integer.parseInt(url.group(2));
+    proxy =
+        new DelayingProxy(
+            new InetSocketAddress(url.group(1), port), Integer.getInteger("benchmark.rtt-ms", 1));
+    registry.add(
+        "spring.datasource.url",
+        () -> "jdbc:postgresql://localhost:" + proxy.port() + url.group(3));
+  }
+
+  @AfterAll
+  static void closeProxy() throws IOException {
+    proxy.close();
+  }
+
+  @Test
+  void issueWithLabels() {
+    demoService.resetDemoData();
+    Workspace workspace = workspaceRepository.findByKeyIgnoreCase("DEMO").orElseThrow();
+    CreateIssueRequest request =
+        new CreateIssueRequest("Batched labels", null, null, null, LABELS, null, null);
+
+    compare(
+        "issue+6 labels",
+        () -> issueService.createIssue(workspace.getId(), workspace.getOwnerId(), request));
+  }
+
+  @Test
+  void demoSeed() {
+    demoService.resetDemoData();
+
+    compare("demo reset", demoService::resetDemoData);
+  }
+
+  private void compare(String name, Runnable action) {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    for (int i = 0; i < Math.max(iterations / 10, 1); i++) {
+      run(transaction, action, 1);
+      run(transaction, action, null);
+    }
+    Run unbatched = new Run(iterations);
+    Run batched = new Run(iterations);
+    for (int i = 0; i < iterations; i++) {
+      unbatched.record(i, transaction, action, 1);
+      batched.record(i, transaction, action, null);
+    }
+    System.out.printf(
+        Locale.ROOT,
+        "benchmark op=%s iterations=%d | batch size 1: %s | batched: %s%n",
+        name,
+        iterations,
+        unbatched,
+        batched);
+
+    assertThat(batched.statements).isLessThan(unbatched.statements);
+    assertThat(median(batched.wallNanos)).isLessThan(median(unbatched.wallNanos));
+  }
+
+  /** Runs {@code action} in one transaction; a null batch size keeps the configured one. */
+  private QueryStats.Snapshot run(
+      TransactionTemplate transaction, Runnable action, Integer batchSize) {
+    return QueryStats.measure(
+        () ->
+            transaction.executeWithoutResult(
+                status -> {
+                  entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                  action.run();
+                }));
+  }
+
+  /** Statement count plus per-iteration wall time and time spent executing statements. */
+  private final class Run {
+    private final long[] wallNanos;
+    private final long[] jdbcNanos;
+    private int statements;
+
+    private Run(int iterations) {
+      this.wallNanos = new long[iterations];
+      this.jdbcNanos = new long[iterations];
+    }
+
+    private void record(
+        int iteration, TransactionTemplate transaction, Runnable action, Integer batchSize) {
+      long started = System.nanoTime();
+      QueryStats.Snapshot snapshot = run(transaction, action, batchSize);
+      wallNanos[iteration] = System.nanoTime() - started;
+      jdbcNanos[iteration] = snapshot.nanos();
+      statements = snapshot.statements();
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          Locale.ROOT,
+          "%d statements, jdbc p50=%.2fms, wall p50=%.2fms",
+          statements,
+          median(jdbcNanos),
+          median(wallNanos));
+    }
+  }
+
+  private static double median(long[] nanos) {
+    long[] sorted = nanos.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2] / 1_000_000.0;
+  }
+
+  /**
+   * Forwards TCP connections to the database, delaying each chunk the client sends. A JDBC batch
+   * goes out as one write, so it pays the delay once where row-at-a-time inserts pay it per row.
+   */
+  private static final class DelayingProxy implements Closeable {
+    private final ServerSocket server;
+    private final InetSocketAddress target;
+    private final long delayMillis;
+
+    private DelayingProxy(InetSocketAddress target, long delayMillis) throws IOException {
+      this.server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+      this.target = target;
+      this.delayMillis = delayMillis;
+      daemon(this::accept);
+    }
+
+    private int port() {
+      return server.getLocalPort();
+    }
+
+    private void accept() {
+      while (!server.isClosed()) {
+        try {
+          Socket client = server.accept();
+          Socket upstream = new Socket(target.getHostString(), target.getPort());
+          client.setTcpNoDelay(true);
+          upstream.setTcpNoDelay(true);
+          daemon(() -> pump(client, upstream, delayMillis));
+          daemon(() -> pump(upstream, client, 0));
+        } catch (IOException ex) {
+          // Closed while accepting, or the database refused; the pool reports the latter.
+        }
+      }
+    }
+
+    private static void pump(Socket from, Socket to, long delayMillis) {
+      byte[] buffer = new byte[64 * 1024];
+      try (from;
+          to) {
+        InputStream in = from.getInputStream();
+        OutputStream out = to.getOutputStream();
+        for (int read; (read = in.read(buffer)) >= 0; ) {
+          if (delayMillis > 0) {
+            Thread.sleep(delayMillis);
+          }
+          out.write(buffer, 0, read);
+          out.flush();
+        }
+      } catch (IOException | InterruptedException ex) {
+        // Either side hung up; closing both ends lets the other pump finish too.
+      }
+    }
+
+    private static void daemon(Runnable task) {
+      Thread thread = new Thread(task, "db-delay-proxy");
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    @Override
+    public void close() throws IOException {
+      server.close();
+    }
+  }
+}
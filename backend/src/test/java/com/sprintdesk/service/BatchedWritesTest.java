@@ -0,0 +1,61 @@
+package com.sprintdesk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprintdesk.dto.CreateIssueRequest;
+import com.sprintdesk.dto.IssueResponse;
+import com.sprintdesk.metrics.QueryStats;
+import com.sprintdesk.model.Workspace;
+import com.sprintdesk.repository.WorkspaceRepository;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Pins the statement counts that JDBC batching brought down, so a change that sends labels or
+ * seeded rows one insert at a time again fails here. Each label or seeded row unbatched adds a
+ * statement on top of these bounds. The issue bound is one above the 7 statements a create costs
+ * over HTTP: called here without a surrounding transaction, the workspace is read again in its
+ * own. BatchedWritesBenchmarkTest times both paths. Needs a database: runs when
+ * SPRING_DATASOURCE_URL is set.
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+class BatchedWritesTest {
+  @Autowired private DemoService demoService;
+  @Autowired private IssueService issueService;
+  @Autowired private WorkspaceRepository workspaceRepository;
+
+  @Test
+  void demoResetSavesEachTableAsOneBatch() {
+    demoService.resetDemoData();
+
+    QueryStats.assertAtMost(21, demoService::resetDemoData);
+  }
+
+  @Test
+  void issueLabelsAreInsertedAsOneBatch() {
+    demoService.resetDemoData();
+    Workspace workspace = workspaceRepository.findByKeyIgnoreCase("DEMO").orElseThrow();
+    CreateIssueRequest request =
+        new CreateIssueRequest(
+            "Batched labels",
+            null,
+            null,
+            null,
+            List.of("api", "billing", "infra", "mobile", "ui", "urgent"),
+            null,
+            null);
+
+    AtomicReference<IssueResponse> created = new AtomicReference<>();
+    QueryStats.assertAtMost(
+        8,
+        () ->
+            created.set(
+                issueService.createIssue(workspace.getId(), workspace.getOwnerId(), request)));
+    assertThat(created.get().labels()).hasSize(6);
+  }
+}
@@ -0,0 +1,194 @@
+package com.sprintdesk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprintdesk.metrics.CacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class BoundedLoadingCacheTest {
+  @Test
+  void concurrentMissesLoadOnce() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+    BoundedLoadingCache<String, String> cache =
+        cache(
+            10,
+            0,
+            key -> {
+              loads.incrementAndGet();
+              await(release);
+              return key + "-value";
+            });
+
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(pool.submit(() -> cache.get("a")));
+      }
+      Thread.sleep(100);
+      release.countDown();
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("a-value");
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void slowLoadDoesNotBlockOtherKeys() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    BoundedLoadingCache<String, String> cache =
+        cache(
+            10,
+            0,
+            key -> {
+              if (key.equals("slow")) {
+                await(release);
+              }
+              return key;
+            });
+
+    ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      Future<String> slow = pool.submit(() -> cache.get("slow"));
+      Thread.sleep(50);
+      assertThat(cache.get("fast")).isEqualTo("fast");
+      release.countDown();
+      assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  @Test
+  void failedLoadIsNotRetriedUntilBackoffPasses() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    BoundedLoadingCache<String, String> cache =
+        cache(
+            10,
+            200,
+            key -> {
+              if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("database down");
+              }
+              return key;
+            });
+
+    assertThatThrownBy(() -> cache.get("a")).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> cache.get("a")).isInstanceOf(IllegalStateException.class);
+    assertThat(loads).hasValue(1);
+
+    Thread.sleep(250);
+    assertThat(cache.get("a")).isEqualTo("a");
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void loaderErrorFailsTheSlotInsteadOfLeavingItPending() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    BoundedLoadingCache<String, String> cache =
+        cache(
+            10,
+            0,
+            key -> {
+              if (loads.incrementAndGet() == 1) {
+                throw new StackOverflowError();
+              }
+              return key;
+            });
+
+    assertThatThrownBy(() -> cache.get("a")).isInstanceOf(StackOverflowError.class);
+    ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      assertThat(pool.submit(() -> cache.get("a")).get(5, TimeUnit.SECONDS)).isEqualTo("a");
+    } finally {
+      pool.shutdownNow();
+    }
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void evictsLeastRecentlyUsed() {
+    AtomicInteger loads = new AtomicInteger();
+    BoundedLoadingCache<String, String> cache =
+        cache(
+            2,
+            0,
+            key -> {
+              loads.incrementAndGet();
+              return key;
+            });
+
+    cache.get("a");
+    cache.get("b");
+    cache.get("a");
+    cache.get("c");
+    assertThat(loads).hasValue(3);
+    cache.get("a");
+    assertThat(loads).hasValue(3);
+    cache.get("b");
+    assertThat(loads).hasValue(4);
+  }
+
+  @Test
+  void updateDuringLoadDropsTheInFlightResult() throws Exception {
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    BoundedLoadingCache<String, List<String>> cache =
+        cache(
+            10,
+            0,
+            key -> {
+              if (loads.incrementAndGet() == 1) {
+                started.countDown();
+                await(release);
+              }
+              return new ArrayList<>(List.of("loaded"));
+            });
+
+    ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      Future<List<String>> first = pool.submit(() -> cache.get("a"));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      cache.update("a", list -> list.add("change"));
+      release.countDown();
+      first.get(5, TimeUnit.SECONDS);
+    } finally {
+      pool.shutdownNow();
+    }
+
+    cache.get("a");
+    assertThat(loads).hasValue(2);
+    cache.update("a", list -> list.add("change"));
+    assertThat(cache.get("a")).containsExactly("loaded", "change");
+  }
+
+  private static <V> BoundedLoadingCache<String, V> cache(
+      int maxEntries, long backoffMillis, Function<String, V> loader) {
+    return new BoundedLoadingCache<>(
+        maxEntries, backoffMillis, loader, CacheMetrics.register(new SimpleMeterRegistry(), "test"));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
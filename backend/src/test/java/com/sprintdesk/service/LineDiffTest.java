@@ -0,0 +1,117 @@
+package com.sprintdesk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class LineDiffTest {
+  private static final int MAX_EDITS = 10_000;
+
+  @Test
+  void splitKeepsLineTerminators() {
+    assertThat(LineDiff.split("a\nb\n\nc")).containsExactly("a\n", "b\n", "\n", "c");
+    assertThat(LineDiff.split("")).isEmpty();
+    assertThat(LineDiff.split(null)).isEmpty();
+  }
+
+  @Test
+  void encodedDeltaRebuildsTheNewText() {
+    String[][] cases = {
+      {"", ""},
+      {"", "one\ntwo\n"},
+      {"one\ntwo\n", ""},
+      {"one\ntwo\nthree\n", "one\n2\nthree\n"},
+      {"one\ntwo\nthree", "zero\none\ntwo\nthree\nfour"},
+      {"a\nb\nc\nd\n", "d\nc\nb\na\n"},
+      {"same\n", "same\n"},
+      {"no newline", "no newline\n"},
+      {"ünïcödé\n日本\n", "ünïcödé\n日本語\n"},
+    };
+    for (String[] pair : cases) {
+      assertThat(roundTrip(pair[0], pair[1])).as("%s -> %s", pair[0], pair[1]).isEqualTo(pair[1]);
+    }
+  }
+
+  @Test
+  void randomEditsRoundTrip() {
+    Random random = new Random(42);
+    for (int run = 0; run < 200; run++) {
+      List<String> lines = randomLines(random, random.nextInt(40));
+      List<String> edited = new ArrayList<>(lines);
+      int changes = random.nextInt(10);
+      for (int i = 0; i < changes; i++) {
+        int at = edited.isEmpty() ? 0 : random.nextInt(edited.size());
+        switch (random.nextInt(3)) {
+          case 0 -> edited.add(at, "inserted " + random.nextInt(5) + "\n");
+          case 1 -> {
+            if (!edited.isEmpty()) {
+              edited.remove(at);
+            }
+          }
+          default -> {
+            if (!edited.isEmpty()) {
+              edited.set(at, "changed " + random.nextInt(5) + "\n");
+            }
+          }
+        }
+      }
+      String before = String.join("", lines);
+      String after = String.join("", edited);
+      assertThat(roundTrip(before, after)).isEqualTo(after);
+    }
+  }
+
+  @Test
+  void diffGivesUpPastMaxEdits() {
+    List<String> a = LineDiff.split("a\nb\nc\n");
+    List<String> b = LineDiff.split("x\ny\nz\n");
+    assertThat(LineDiff.diff(a, b, 2)).isNull();
+    assertThat(LineDiff.diff(a, b, 6)).hasSize(6);
+  }
+
+  @Test
+  void applyRejectsADeltaMadeAgainstLongerText() {
+    byte[] delta = encode("one\ntwo\nthree\n", "one\nthree\n");
+    assertThatThrownBy(() -> LineDiff.apply("one\n", delta))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void applyRejectsADeltaThatLeavesBaseLinesOver() {
+    byte[] delta = encode("one\n", "one\ntwo\n");
+    assertThatThrownBy(() -> LineDiff.apply("one\nextra\n", delta))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void applyRejectsTruncatedDelta() {
+    byte[] delta = encode("one\n", "one\ninserted line\n");
+    byte[] truncated = Arrays.copyOf(delta, delta.length - 3);
+    assertThatThrownBy(() -> LineDiff.apply("one\n", truncated))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static String roundTrip(String before, String after) {
+    return LineDiff.apply(before, encode(before, after));
+  }
+
+  private static byte[] encode(String before, String after) {
+    List<LineDiff.Edit> edits =
+        LineDiff.diff(LineDiff.split(before), LineDiff.split(after), MAX_EDITS);
+    assertThat(edits).isNotNull();
+    return LineDiff.encode(edits);
+  }
+
+  private static List<String> randomLines(Random random, int count) {
+    List<String> lines = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      lines.add("line " + random.nextInt(8) + "\n");
+    }
+    return lines;
+  }
+}
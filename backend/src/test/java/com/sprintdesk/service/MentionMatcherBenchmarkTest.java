@@ -0,0 +1,132 @@
+package com.sprintdesk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprintdesk.model.Workspace;
+import com.sprintdesk.repository.WorkspaceMemberRepository;
+import com.sprintdesk.repository.WorkspaceRepository;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Times mention resolution on a 50 KB comment body: the cached per-workspace MentionMatcher
+ * against the path it replaced, which pulled addresses out with a regex and looked their owners up
+ * with a users-by-email query on every comment. Runs alternate so drift hits both equally. Tagged
+ * "benchmark": run with {@code ./mvnw test -Pbenchmark} against a database, tuning {@code
+ * -Dbenchmark.iterations}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "SPRING_DATASOURCE_URL", matches = ".+")
+class MentionMatcherBenchmarkTest {
+  private static final Pattern MENTION_PATTERN =
+      Pattern.compile("@([\\w.+-]+@[\\w.-]+\\.[A-Za-z]{2,})");
+  private static final String USER_IDS_BY_EMAIL = "select id from users where email in (:emails)";
+  private static final int BODY_CHARS = 50 * 1024;
+
+  private final int iterations = Integer.getInteger("benchmark.iterations", 500);
+
+  @Autowired private DemoService demoService;
+  @Autowired private WorkspaceRepository workspaceRepository;
+  @Autowired private WorkspaceMemberRepository memberRepository;
+  @Autowired private MentionMatcherCache mentionMatchers;
+  @Autowired private NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Test
+  void matcherAgainstRegexAndEmailLookup() {
+    demoService.resetDemoData();
+    Workspace workspace = workspaceRepository.findByKeyIgnoreCase("DEMO").orElseThrow();
+    List<WorkspaceMemberRepository.MemberHandleView> members =
+        memberRepository.findHandlesByWorkspaceId(workspace.getId());
+    String body = body(members);
+
+    Supplier<Set<UUID>> regex = () -> regexAndLookup(body);
+    Supplier<Set<UUID>> matcher = () -> mentionMatchers.get(workspace.getId()).match(body);
+    Set<UUID> expected = new HashSet<>();
+    members.forEach(member -> expected.add(member.getUserId()));
+    assertThat(regex.get()).isEqualTo(expected);
+    assertThat(matcher.get()).isEqualTo(expected);
+
+    for (int i = 0; i < Math.max(iterations / 10, 1); i++) {
+      regex.get();
+      matcher.get();
+    }
+    long[] regexNanos = new long[iterations];
+    long[] matcherNanos = new long[iterations];
+    for (int i = 0; i < iterations; i++) {
+      regexNanos[i] = time(regex);
+      matcherNanos[i] = time(matcher);
+    }
+    System.out.printf(
+        Locale.ROOT,
+        "benchmark op=mentions body=%dKB members=%d iterations=%d | regex+lookup p50=%.1fus"
+            + " | matcher p50=%.1fus%n",
+        body.length() / 1024,
+        members.size(),
+        iterations,
+        median(regexNanos),
+        median(matcherNanos));
+
+    assertThat(median(matcherNanos)).isLessThan(median(regexNanos));
+  }
+
+  /** The resolution CommentService did before the matcher. */
+  private Set<UUID> regexAndLookup(String body) {
+    Matcher matcher = MENTION_PATTERN.matcher(body);
+    Set<String> emails = new HashSet<>();
+    while (matcher.find()) {
+      emails.add(matcher.group(1).toLowerCase());
+    }
+    if (emails.isEmpty()) {
+      return Set.of();
+    }
+    return new HashSet<>(
+        jdbcTemplate.queryForList(USER_IDS_BY_EMAIL, Map.of("emails", emails), UUID.class));
+  }
+
+  /**
+   * Prose with an @email mention of every member spread through it, plus the stray addresses and
+   * at-signs real comments carry, so both paths do their full work.
+   */
+  private static String body(List<WorkspaceMemberRepository.MemberHandleView> members) {
+    String filler =
+        "Reproduced on staging after the deploy; logs attached, see build@ci for the run and "
+            + "ping ops@example.org if the alert fires again before the retro. ";
+    StringBuilder body = new StringBuilder(BODY_CHARS + 256);
+    int next = 0;
+    while (body.length() < BODY_CHARS) {
+      body.append(filler);
+      if (body.length() > (next + 1) * BODY_CHARS / (members.size() + 1)
+          && next < members.size()) {
+        body.append("cc @").append(members.get(next++).getEmail()).append(' ');
+      }
+    }
+    return body.toString();
+  }
+
+  private static long time(Supplier<Set<UUID>> resolve) {
+    long started = System.nanoTime();
+    resolve.get();
+    return System.nanoTime() - started;
+  }
+
+  private static double median(long[] nanos) {
+    long[] sorted = nanos.clone();
+    Arrays.sort(sorted);
+    return sorted[sorted.length / 2] / 1_000.0;
+  }
+}
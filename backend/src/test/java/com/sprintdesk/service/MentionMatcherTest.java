@@ -0,0 +1,86 @@
+package com.sprintdesk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MentionMatcherTest {
+  private static final UUID ANN = UUID.randomUUID();
+  private static final UUID ANNA = UUID.randomUUID();
+  private static final UUID BOB = UUID.randomUUID();
+  private static final UUID ILKER = UUID.randomUUID();
+
+  private static final MentionMatcher MATCHER =
+      MentionMatcher.of(
+          List.of(
+              new MentionMatcher.Handle("Ann", ANN),
+              new MentionMatcher.Handle("ann@example.com", ANN),
+              new MentionMatcher.Handle("AnnaLee", ANNA),
+              new MentionMatcher.Handle("anna@example.com", ANNA),
+              new MentionMatcher.Handle("Bob", BOB),
+              new MentionMatcher.Handle("İlker", ILKER)));
+
+  @Test
+  void handleThatPrefixesAnotherOnlyMatchesOnItsOwn() {
+    assertThat(MATCHER.match("ping @annalee")).containsExactly(ANNA);
+    assertThat(MATCHER.match("ping @ann")).containsExactly(ANN);
+    assertThat(MATCHER.match("@ann and @annalee")).containsExactly(ANN, ANNA);
+  }
+
+  @Test
+  void nameHandleDoesNotMatchInsideALongerAddress() {
+    assertThat(MATCHER.match("mail @ann@example.com")).containsExactly(ANN);
+    assertThat(MATCHER.match("cc @anna@example.com")).containsExactly(ANNA);
+    assertThat(MATCHER.match("cc @ann@example.com.")).containsExactly(ANN);
+    assertThat(MATCHER.match("cc @ann@example.community")).isEmpty();
+  }
+
+  @Test
+  void adjacentAndRepeatedMentions() {
+    assertThat(MATCHER.match("@bob,@ann")).containsExactly(BOB, ANN);
+    assertThat(MATCHER.match("@bob @bob @bob")).containsExactly(BOB);
+    assertThat(MATCHER.match("email@bob")).isEmpty();
+    assertThat(MATCHER.match("@bobby")).isEmpty();
+  }
+
+  @Test
+  void matchingIgnoresCase() {
+    assertThat(MATCHER.match("@ANN")).containsExactly(ANN);
+    assertThat(MATCHER.match("@AnnaLEE")).containsExactly(ANNA);
+    assertThat(MATCHER.match("@ANN@EXAMPLE.COM")).containsExactly(ANN);
+  }
+
+  @Test
+  void caseFoldingDoesNotDependOnTheDefaultLocale() {
+    Locale original = Locale.getDefault();
+    try {
+      Locale.setDefault(Locale.forLanguageTag("tr"));
+      MentionMatcher turkish =
+          MentionMatcher.of(
+              List.of(
+                  new MentionMatcher.Handle("INGRID", ANN),
+                  new MentionMatcher.Handle("İlker", ILKER)));
+      assertThat(turkish.match("@ingrid")).containsExactly(ANN);
+      assertThat(turkish.match("@Ingrid")).containsExactly(ANN);
+      assertThat(turkish.match("@İlker")).containsExactly(ILKER);
+    } finally {
+      Locale.setDefault(original);
+    }
+    assertThat(MATCHER.match("@İLKER")).containsExactly(ILKER);
+    assertThat(MATCHER.match("@ilker")).containsExactly(ILKER);
+  }
+
+  @Test
+  void ambiguousHandlesAreDropped() {
+    MentionMatcher matcher =
+        MentionMatcher.of(
+            List.of(
+                new MentionMatcher.Handle("sam", ANN),
+                new MentionMatcher.Handle("SAM", BOB),
+                new MentionMatcher.Handle("bob", BOB)));
+    assertThat(matcher.match("@sam @bob")).containsExactly(BOB);
+  }
+}
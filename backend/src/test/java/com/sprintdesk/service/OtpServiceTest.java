@@ -0,0 +1,116 @@
+package com.sprintdesk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprintdesk.exception.TooManyRequestsException;
+import com.sprintdesk.security.SecurityProperties;
+import com.sprintdesk.security.TokenService;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class OtpServiceTest {
+  private static final String EMAIL = "user@example.com";
+
+  @Test
+  void concurrentFailedGuessesReachTheStoreAtMostMaxAttemptsTimes() throws Exception {
+    SecurityProperties properties = properties(5);
+    CountingStore store = new CountingStore();
+    OtpService service = new OtpService(store, new TokenService(properties), properties);
+
+    int guesses = 64;
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger throttled = new AtomicInteger();
+    ExecutorService pool = Executors.newFixedThreadPool(16);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < guesses; i++) {
+        String code = String.format("%06d", i);
+        results.add(
+            pool.submit(
+                () -> {
+                  start.await();
+                  try {
+                    service.verifyCode(EMAIL, code);
+                  } catch (TooManyRequestsException ex) {
+                    throttled.incrementAndGet();
+                  } catch (ResponseStatusException ex) {
+                    // Invalid code: the attempt was counted.
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (Future<?> result : results) {
+        result.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+
+    assertThat(store.consumed.get()).isLessThanOrEqualTo(5);
+    assertThat(throttled.get()).isEqualTo(guesses - store.consumed.get());
+  }
+
+  @Test
+  void successfulVerifyClearsTheAttemptCount() {
+    SecurityProperties properties = properties(2);
+    CountingStore store = new CountingStore();
+    OtpService service = new OtpService(store, new TokenService(properties), properties);
+
+    assertThatThrownBy(() -> service.verifyCode(EMAIL, "000000"))
+        .isInstanceOf(ResponseStatusException.class)
+        .isNotInstanceOf(TooManyRequestsException.class);
+    store.accept = true;
+    service.verifyCode(EMAIL, "123456");
+    store.accept = false;
+
+    assertThatThrownBy(() -> service.verifyCode(EMAIL, "000000"))
+        .isNotInstanceOf(TooManyRequestsException.class);
+    assertThatThrownBy(() -> service.verifyCode(EMAIL, "000000"))
+        .isNotInstanceOf(TooManyRequestsException.class);
+    assertThatThrownBy(() -> service.verifyCode(EMAIL, "000000"))
+        .isInstanceOf(TooManyRequestsException.class);
+  }
+
+  private static SecurityProperties properties(int maxAttempts) {
+    SecurityProperties properties = new SecurityProperties();
+    properties.setOtpMaxAttempts(maxAttempts);
+    properties.setOtpAttemptWindowMinutes(15);
+    return properties;
+  }
+
+  private static final class CountingStore implements OtpStore {
+    private final AtomicInteger consumed = new AtomicInteger();
+    private volatile boolean accept;
+
+    @Override
+    public void put(String email, String codeHash, Instant expiresAt) {}
+
+    @Override
+    public Result consume(String email, String codeHash, Instant now) {
+      consumed.incrementAndGet();
+      try {
+        // Widen the window between the limiter check and the result.
+        Thread.sleep(5);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      return accept ? Result.CONSUMED : Result.INVALID;
+    }
+
+    @Override
+    public int purgeExpired(Instant now) {
+      return 0;
+    }
+  }
+}
@@ -30,10 +30,6 @@ import {
 import { Tooltip, TooltipContent, TooltipProvider, TooltipTrigger } from "@/components/ui/tooltip";
 import { Avatar } from "@/components/ui/avatar";
 
-type Notification = {
-  _id: string;
-};
-
 const navItems = [
   { label: "Dashboard", to: "/app/dashboard", icon: LayoutDashboard },
   { label: "Issues", to: "/app/issues", icon: ListChecks },
@@ -69,17 +65,15 @@ export default function AppShell() {
 
   useWorkspaceSocket();
 
-  const { data: unreadNotifications } = useQuery({
-    queryKey: ["notifications", "unread"],
+  const { data: unreadCount = 0 } = useQuery({
+    queryKey: ["notifications", "unread-count"],
     queryFn: async () => {
-      const res = await api.get("/api/notifications", { params: { unread: "true" } });
-      return res.data.notifications as Notification[];
+      const res = await api.get("/api/notifications/unread-count");
+      return res.data.count as number;
     },
     enabled: Boolean(user)
   });
 
-  const unreadCount = unreadNotifications?.length ?? 0;
-
   const handleLogout = async () => {
     await logout();
     navigate("/login");
@@ -3,6 +3,7 @@ import { useQueryClient } from "@tanstack/react-query";
 import { Client, type StompSubscription } from "@stomp/stompjs";
 import SockJS from "sockjs-client";
 import { toast } from "sonner";
+import { fetchNewComments } from "@/lib/comments";
 import { useAuthStore } from "@/stores/auth";
 import { useWorkspaceStore } from "@/stores/workspaces";
 
@@ -91,7 +92,7 @@ export function useWorkspaceSocket() {
           });
         }
         if (payload.issueId) {
-          queryClient.invalidateQueries({ queryKey: ["issue-comments", payload.issueId] });
+          void fetchNewComments(queryClient, payload.issueId);
         }
         return;
       }
@@ -103,7 +104,13 @@ export function useWorkspaceSocket() {
           });
         }
         queryClient.invalidateQueries({ queryKey: ["notifications"] });
-        queryClient.invalidateQueries({ queryKey: ["notifications", "unread"] });
+        queryClient.invalidateQueries({ queryKey: ["notifications", "unread-count"] });
+        return;
+      }
+
+      if (type === "notifications_updated" || type === "notifications_read") {
+        queryClient.invalidateQueries({ queryKey: ["notifications"] });
+        queryClient.invalidateQueries({ queryKey: ["notifications", "unread-count"] });
       }
     };
 
@@ -0,0 +1,83 @@
+import type { QueryClient } from "@tanstack/react-query";
+import api from "@/lib/api";
+
+export type Comment = {
+  _id: string;
+  body: string;
+  userId: { name: string; email: string; avatarUrl?: string | null };
+  createdAt: string;
+};
+
+export type CommentWindow = {
+  comments: Comment[];
+  prevCursor: string | null;
+  latestCursor: string | null;
+};
+
+type CommentPageResponse = CommentWindow & { nextCursor: string | null };
+
+export const commentsQueryKey = (issueId: string) => ["issue-comments", issueId];
+
+export async function fetchLatestComments(issueId: string): Promise<CommentWindow> {
+  const res = await api.get<CommentPageResponse>(`/api/issues/${issueId}/comments`);
+  return {
+    comments: res.data.comments,
+    prevCursor: res.data.prevCursor,
+    latestCursor: res.data.latestCursor
+  };
+}
+
+export async function loadOlderComments(queryClient: QueryClient, issueId: string) {
+  const current = queryClient.getQueryData<CommentWindow>(commentsQueryKey(issueId));
+  if (!current?.prevCursor) {
+    return;
+  }
+  const res = await api.get<CommentPageResponse>(`/api/issues/${issueId}/comments`, {
+    params: { before: current.prevCursor }
+  });
+  queryClient.setQueryData<CommentWindow>(commentsQueryKey(issueId), (data) =>
+    data
+      ? {
+          ...data,
+          comments: mergeComments(res.data.comments, data.comments),
+          prevCursor: res.data.prevCursor
+        }
+      : data
+  );
+}
+
+/**
+ * Append comments newer than the cached window instead of refetching the whole thread.
+ */
+export async function fetchNewComments(queryClient: QueryClient, issueId: string) {
+  const current = queryClient.getQueryData<CommentWindow>(commentsQueryKey(issueId));
+  if (!current?.latestCursor) {
+    await queryClient.invalidateQueries({ queryKey: commentsQueryKey(issueId) });
+    return;
+  }
+  let cursor: string | null = current.latestCursor;
+  const added: Comment[] = [];
+  while (cursor) {
+    const res: { data: CommentPageResponse } = await api.get(`/api/issues/${issueId}/comments`, {
+      params: { after: cursor }
+    });
+    added.push(...res.data.comments);
+    cursor = res.data.nextCursor;
+    if (!res.data.nextCursor) {
+      queryClient.setQueryData<CommentWindow>(commentsQueryKey(issueId), (data) =>
+        data
+          ? {
+              ...data,
+              comments: mergeComments(data.comments, added),
+              latestCursor: res.data.latestCursor ?? data.latestCursor
+            }
+          : data
+      );
+    }
+  }
+}
+
+function mergeComments(first: Comment[], second: Comment[]) {
+  const seen = new Set(first.map((comment) => comment._id));
+  return [...first, ...second.filter((comment) => !seen.has(comment._id))];
+}
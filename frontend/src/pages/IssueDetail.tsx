@@ -30,6 +30,12 @@ import {
   type IssueStatus
 } from "@/lib/issueMeta";
 import { setIssueBreadcrumb, setKbBreadcrumb } from "@/lib/breadcrumbs";
+import {
+  commentsQueryKey,
+  fetchLatestComments,
+  fetchNewComments,
+  loadOlderComments
+} from "@/lib/comments";
 
 const commentSchema = z.object({
   body: z.string().min(1, "Comment cannot be empty")
@@ -62,13 +68,6 @@ type IssueDetail = {
   updatedAt?: string;
 };
 
-type Comment = {
-  _id: string;
-  body: string;
-  userId: { name: string; email: string; avatarUrl?: string | null };
-  createdAt: string;
-};
-
 type Member = {
   id: string;
   role: "OWNER" | "ADMIN" | "MEMBER" | "VIEWER";
@@ -135,15 +134,25 @@ export default function IssueDetailPage() {
     enabled: Boolean(currentWorkspaceId && issueId)
   });
 
-  const { data: commentsData } = useQuery({
-    queryKey: ["issue-comments", issueId],
-    queryFn: async () => {
-      if (!issueId) return [];
-      const res = await api.get(`/api/issues/${issueId}/comments`);
-      return res.data.comments as Comment[];
-    },
+  const { data: commentWindow } = useQuery({
+    queryKey: commentsQueryKey(issueId ?? ""),
+    queryFn: () => fetchLatestComments(issueId ?? ""),
     enabled: Boolean(issueId)
   });
+  const commentsData = commentWindow?.comments;
+  const [loadingOlder, setLoadingOlder] = useState(false);
+
+  const handleLoadOlder = async () => {
+    if (!issueId) return;
+    setLoadingOlder(true);
+    try {
+      await loadOlderComments(queryClient, issueId);
+    } catch {
+      toast.error("Unable to load older comments");
+    } finally {
+      setLoadingOlder(false);
+    }
+  };
 
   const { data: membersData } = useQuery({
     queryKey: ["workspace-members", currentWorkspaceId],
@@ -282,7 +291,7 @@ export default function IssueDetailPage() {
     },
     onSuccess: async () => {
       await queryClient.invalidateQueries({ queryKey: ["issue", issueId] });
-      await queryClient.invalidateQueries({ queryKey: ["issue-comments", issueId] });
+      await fetchNewComments(queryClient, issueId ?? "");
       commentForm.reset();
       setMentionIndex(null);
       setMentionQuery("");
@@ -856,6 +865,17 @@ export default function IssueDetailPage() {
           <div className="rounded-md border border-border bg-surface p-6">
             <h2 className="text-lg font-semibold">Comments</h2>
             <div className="mt-4 space-y-3">
+              {commentWindow?.prevCursor ? (
+                <Button
+                  type="button"
+                  variant="ghost"
+                  size="sm"
+                  onClick={handleLoadOlder}
+                  disabled={loadingOlder}
+                >
+                  {loadingOlder ? "Loading..." : "Load older comments"}
+                </Button>
+              ) : null}
               {commentsData?.length ? (
                 commentsData.map((comment) => (
                   <div
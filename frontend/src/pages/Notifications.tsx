@@ -1,6 +1,6 @@
 import { useEffect } from "react";
 import { useNavigate } from "react-router-dom";
-import { useMutation, useQuery, useQueryClient } from "@tanstack/react-query";
+import { useInfiniteQuery, useMutation, useQueryClient } from "@tanstack/react-query";
 import api from "@/lib/api";
 import { Button } from "@/components/ui/button";
 import { Badge } from "@/components/ui/badge";
@@ -20,16 +20,27 @@ type Notification = {
   issueId?: string | null;
 };
 
+type NotificationPage = {
+  notifications: Notification[];
+  nextCursor?: string | null;
+};
+
+const PAGE_SIZE = 30;
+
 export default function NotificationsPage() {
   const queryClient = useQueryClient();
   const navigate = useNavigate();
 
-  const { data, isLoading } = useQuery({
-    queryKey: ["notifications"],
-    queryFn: async () => {
-      const res = await api.get("/api/notifications");
-      return res.data.notifications as Notification[];
-    }
+  const { data, isLoading, hasNextPage, fetchNextPage, isFetchingNextPage } = useInfiniteQuery({
+    queryKey: ["notifications", "list"],
+    queryFn: async ({ pageParam }) => {
+      const res = await api.get("/api/notifications", {
+        params: { limit: PAGE_SIZE, cursor: pageParam ?? undefined }
+      });
+      return res.data as NotificationPage;
+    },
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? null
   });
 
   const markRead = useMutation({
@@ -38,7 +49,7 @@ export default function NotificationsPage() {
     },
     onSuccess: async () => {
       await queryClient.invalidateQueries({ queryKey: ["notifications"] });
-      await queryClient.invalidateQueries({ queryKey: ["notifications", "unread"] });
+      await queryClient.invalidateQueries({ queryKey: ["notifications", "unread-count"] });
     }
   });
 
@@ -48,11 +59,11 @@ export default function NotificationsPage() {
     },
     onSuccess: async () => {
       await queryClient.invalidateQueries({ queryKey: ["notifications"] });
-      await queryClient.invalidateQueries({ queryKey: ["notifications", "unread"] });
+      await queryClient.invalidateQueries({ queryKey: ["notifications", "unread-count"] });
     }
   });
 
-  const notifications = data ?? [];
+  const notifications = data?.pages.flatMap((page) => page.notifications) ?? [];
   const hasUnread = notifications.some((note) => !note.readAt);
 
   useEffect(() => {
@@ -139,6 +150,18 @@ export default function NotificationsPage() {
             </TableBody>
           </Table>
         ) : null}
+        {hasNextPage ? (
+          <div className="mt-4 flex justify-center">
+            <Button
+              size="sm"
+              variant="outline"
+              onClick={() => fetchNextPage()}
+              disabled={isFetchingNextPage}
+            >
+              {isFetchingNextPage ? "Loading..." : "Load more"}
+            </Button>
+          </div>
+        ) : null}
       </div>
     </div>
   );